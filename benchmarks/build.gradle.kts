@@ -0,0 +1,26 @@
+plugins {
+    id("java")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":common"))
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+
+    // Report allocations per operation, so regressions in the
+    // hot paths can be measured. Equivalent to `-prof gc`.
+    profilers.add("gc")
+
+    // Run a subset of the benchmarks with -Pbenchmarks=<regex>
+    findProperty("benchmarks")?.let { includes.add(it as String) }
+}
@@ -0,0 +1,138 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import revxrsal.commands.Lamp;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.annotation.Flag;
+import revxrsal.commands.annotation.Subcommand;
+import revxrsal.commands.annotation.Switch;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.orphan.OrphanCommand;
+import revxrsal.commands.orphan.Orphans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The commands used by the benchmarks
+ */
+public final class BenchmarkCommands {
+
+    private BenchmarkCommands() {
+    }
+
+    /**
+     * The number of commands that share a single root
+     */
+    public static final int COMMANDS_PER_ROOT = 10;
+
+    /**
+     * Creates a {@link Lamp} with the given number of executable commands.
+     * Commands are registered under {@code g<i / 10> c<i % 10> give <target> <amount>}
+     * so that roots are shared the same way they would be in a real registry.
+     *
+     * @param size The number of commands
+     * @return The created {@link Lamp}
+     */
+    public static Lamp<BenchmarkActor> createLamp(int size) {
+        Lamp<BenchmarkActor> lamp = Lamp.<BenchmarkActor>builder().build();
+        List<Object> orphans = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            orphans.add(Orphans.path(path(i)).handler(new Give()));
+        lamp.registerAll(orphans);
+        return lamp;
+    }
+
+    /**
+     * Returns the path of the command at the given index
+     *
+     * @param index The index
+     * @return The path
+     */
+    public static String path(int index) {
+        return "g" + index / COMMANDS_PER_ROOT + " c" + index % COMMANDS_PER_ROOT;
+    }
+
+    public enum Color {
+        RED, GREEN, BLUE, CYAN, MAGENTA, YELLOW, BLACK, WHITE
+    }
+
+    public static final class Give implements OrphanCommand {
+
+        @Subcommand("give")
+        public void give(CommandActor actor, String target, int amount) {
+        }
+    }
+
+    @Command("flags")
+    public static final class Flags {
+
+        @Subcommand("1")
+        public void flags1(CommandActor actor, String message, @Flag("a") int a) {
+        }
+
+        @Subcommand("2")
+        public void flags2(CommandActor actor, String message, @Flag("a") int a, @Switch("b") boolean b) {
+        }
+
+        @Subcommand("4")
+        public void flags4(
+                CommandActor actor, String message,
+                @Flag("a") int a, @Flag("c") String c,
+                @Switch("b") boolean b, @Switch("d") boolean d
+        ) {
+        }
+
+        @Subcommand("8")
+        public void flags8(
+                CommandActor actor, String message,
+                @Flag("a") int a, @Flag("c") String c,
+                @Flag("e") double e, @Flag("g") long g,
+                @Switch("b") boolean b, @Switch("d") boolean d,
+                @Switch("f") boolean f, @Switch("h") boolean h
+        ) {
+        }
+    }
+
+    @Command("types")
+    public static final class Types {
+
+        @Subcommand("enum")
+        public void enumType(CommandActor actor, Color value) {
+        }
+
+        @Subcommand("int")
+        public void intType(CommandActor actor, int value) {
+        }
+
+        @Subcommand("double")
+        public void doubleType(CommandActor actor, double value) {
+        }
+
+        @Subcommand("list")
+        public void listType(CommandActor actor, List<Integer> value) {
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.autocomplete.AutoCompleter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link AutoCompleter#complete(revxrsal.commands.command.CommandActor, String)}
+ * at different depths of the input
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompletionBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    @Param({"", "g", "g1", "g1 ", "g1 c", "g1 c1 ", "g1 c1 give ", "g1 c1 give Notch "})
+    public String input;
+
+    private AutoCompleter<BenchmarkActor> autoCompleter;
+    private BenchmarkActor actor;
+
+    @Setup
+    public void setup() {
+        Lamp<BenchmarkActor> lamp = BenchmarkCommands.createLamp(size);
+        autoCompleter = lamp.autoCompleter();
+        actor = new BenchmarkActor(lamp);
+    }
+
+    @Benchmark
+    public List<String> complete() {
+        return autoCompleter.complete(actor, input);
+    }
+}
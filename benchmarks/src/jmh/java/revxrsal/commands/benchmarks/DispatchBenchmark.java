@@ -0,0 +1,70 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.Lamp;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Lamp#dispatch(revxrsal.commands.command.CommandActor, String)}
+ * against registries of different sizes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DispatchBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    private Lamp<BenchmarkActor> lamp;
+    private BenchmarkActor actor;
+    private String lastCommand;
+    private String invalidArgument;
+
+    @Setup
+    public void setup() {
+        lamp = BenchmarkCommands.createLamp(size);
+        actor = new BenchmarkActor(lamp);
+        lastCommand = BenchmarkCommands.path(size - 1) + " give Notch 64";
+        invalidArgument = BenchmarkCommands.path(size - 1) + " give Notch many";
+    }
+
+    @Benchmark
+    public void dispatch() {
+        lamp.dispatch(actor, lastCommand);
+    }
+
+    @Benchmark
+    public void dispatchInvalidArgument() {
+        lamp.dispatch(actor, invalidArgument);
+    }
+
+    @Benchmark
+    public void dispatchUnknownCommand() {
+        lamp.dispatch(actor, "unknown give Notch 64");
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.command.Potential;
+import revxrsal.commands.stream.StringStream;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures testing commands that contain 1 to 8 flags and switches.
+ * The flags and switches are given in the input in an order that
+ * differs from the order they are declared in.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FlagParsingBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int flags;
+
+    private ExecutableCommand<BenchmarkActor> command;
+    private BenchmarkActor actor;
+    private String input;
+
+    @Setup
+    public void setup() {
+        Lamp<BenchmarkActor> lamp = Lamp.<BenchmarkActor>builder().build();
+        lamp.register(new BenchmarkCommands.Flags());
+        actor = new BenchmarkActor(lamp);
+        command = lamp.registry().commands().stream()
+                .filter(c -> c.path().startsWith("flags " + flags + " "))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        switch (flags) {
+            case 1:
+                input = "flags 1 hello --a 1";
+                break;
+            case 2:
+                input = "flags 2 hello -b --a 1";
+                break;
+            case 4:
+                input = "flags 4 hello -d --c world -b --a 1";
+                break;
+            default:
+                input = "flags 8 hello -h --g 4 -f --e 3.5 -d --c world -b --a 1";
+                break;
+        }
+    }
+
+    @Benchmark
+    public Potential<BenchmarkActor> test() {
+        return command.test(actor, StringStream.createMutable(input));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.reflect.MethodCaller.BoundMethodCaller;
+import revxrsal.commands.reflect.MethodCallerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of invoking a command method through the
+ * different {@link MethodCallerFactory} implementations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MethodCallerBenchmark {
+
+    @Param({"methodHandles", "directMethodHandles"})
+    public String factory;
+
+    private BoundMethodCaller caller;
+    private final Object[] arguments = {"Notch", 42, 3.5D};
+
+    @Setup
+    public void setup() throws Throwable {
+        MethodCallerFactory callerFactory = factory.equals("methodHandles")
+                ? MethodCallerFactory.methodHandles()
+                : MethodCallerFactory.directMethodHandles();
+        Method method = Commands.class.getDeclaredMethod("give", String.class, int.class, double.class);
+        caller = callerFactory.createFor(method).bindTo(new Commands());
+    }
+
+    @Benchmark
+    public Object call() {
+        return caller.call(arguments);
+    }
+
+    public static class Commands {
+
+        public int give(String target, int amount, double multiplier) {
+            return target.length() + (int) (amount * multiplier);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.ExecutionContext;
+import revxrsal.commands.node.ParameterNode;
+import revxrsal.commands.stream.StringStream;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing a single argument using the built-in
+ * {@link revxrsal.commands.parameter.ParameterType}s
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParameterTypeBenchmark {
+
+    @Param({"enum", "int", "double", "list"})
+    public String type;
+
+    private ParameterNode<BenchmarkActor, Object> parameter;
+    private ExecutionContext<BenchmarkActor> context;
+    private String input;
+
+    @Setup
+    public void setup() {
+        Lamp<BenchmarkActor> lamp = Lamp.<BenchmarkActor>builder().build();
+        lamp.register(new BenchmarkCommands.Types());
+        BenchmarkActor actor = new BenchmarkActor(lamp);
+        ExecutableCommand<BenchmarkActor> command = lamp.registry().commands().stream()
+                .filter(c -> c.path().startsWith("types " + type + " "))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        parameter = command.parameters().values().iterator().next();
+        context = ExecutionContext.create(command, actor, StringStream.create(command.path()));
+        switch (type) {
+            case "enum":
+                input = "magenta";
+                break;
+            case "int":
+                input = "-2147483648";
+                break;
+            case "double":
+                input = "3.14159265358979";
+                break;
+            default:
+                input = "1 2 3 4 5 6 7 8";
+                break;
+        }
+    }
+
+    @Benchmark
+    public Object parse() {
+        return parameter.parse(StringStream.createMutable(input), context);
+    }
+}
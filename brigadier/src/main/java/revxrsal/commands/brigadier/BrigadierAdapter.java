@@ -37,6 +37,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import revxrsal.commands.Lamp;
 import revxrsal.commands.autocomplete.AsyncSuggestionProvider;
+import revxrsal.commands.autocomplete.CompletionDeadlines;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.Potential;
 import revxrsal.commands.node.ExecutionContext;
@@ -46,6 +47,7 @@ import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -110,6 +112,7 @@ public final class BrigadierAdapter {
                     .stream()
                     .sorted(String.CASE_INSENSITIVE_ORDER)
                     .distinct()
+                    .limit(parameter.lamp().dispatcherSettings().maximumSuggestions())
                     .map(s -> toSuggestion(s, builder, tooltip))
                     .collect(Collectors.toList());
             return CompletableFuture.completedFuture(Suggestions.create(builder.getInput(), values));
@@ -122,13 +125,17 @@ public final class BrigadierAdapter {
             @NotNull ExecutionContext<A> context,
             @Nullable Message tooltip
     ) {
-        CompletableFuture<Collection<String>> completions = suggestions
-                .getSuggestionsAsync(context);
+        CompletableFuture<Collection<String>> completions = CompletionDeadlines.within(
+                suggestions.getSuggestionsAsync(context),
+                context.lamp().dispatcherSettings().completionTimeout(),
+                Collections.emptyList()
+        );
         return completions.thenApply(strings -> {
             return Suggestions.create(builder.getInput(),
                     strings.stream()
                             .sorted(String.CASE_INSENSITIVE_ORDER)
                             .distinct()
+                            .limit(context.lamp().dispatcherSettings().maximumSuggestions())
                             .map(v -> toSuggestion(v, builder, tooltip))
                             .collect(Collectors.toList()));
         });
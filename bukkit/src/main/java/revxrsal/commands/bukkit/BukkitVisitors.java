@@ -265,7 +265,7 @@ public final class BukkitVisitors {
     ) {
         if (isBrigadierSupported()) {
             return builder -> builder.hooks()
-                    .onCommandRegistered(new BrigadierRegistryHook<>(((ArgumentTypes) argumentTypes), actorFactory, plugin));
+                    .onCommandsRegistered(new BrigadierRegistryHook<>(((ArgumentTypes) argumentTypes), actorFactory, plugin));
         }
         return LampBuilderVisitor.nothing();
     }
@@ -287,12 +287,12 @@ public final class BukkitVisitors {
                 private boolean registered = false;
 
                 @Override public void visit(Lamp.@NotNull Builder<A> builder) {
-                    builder.hooks().onCommandRegistered((command, cancelHandle) -> {
+                    builder.hooks().onCommandsRegistered(commands -> {
                         if (registered)
                             return;
                         registered = true;
                         Bukkit.getPluginManager().registerEvents(
-                                new AsyncPaperTabListener<>(command.lamp(), actorFactory),
+                                new AsyncPaperTabListener<>(commands.get(0).lamp(), actorFactory),
                                 plugin
                         );
                     });
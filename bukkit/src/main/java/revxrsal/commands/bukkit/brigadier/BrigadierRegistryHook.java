@@ -29,13 +29,14 @@ import revxrsal.commands.brigadier.types.ArgumentTypes;
 import revxrsal.commands.bukkit.actor.ActorFactory;
 import revxrsal.commands.bukkit.actor.BukkitCommandActor;
 import revxrsal.commands.command.ExecutableCommand;
-import revxrsal.commands.hook.CancelHandle;
-import revxrsal.commands.hook.CommandRegisteredHook;
+import revxrsal.commands.hook.CommandsRegisteredHook;
+
+import java.util.List;
 
 import static revxrsal.commands.bukkit.util.BukkitVersion.isPaper;
 import static revxrsal.commands.bukkit.util.BukkitVersion.supports;
 
-public final class BrigadierRegistryHook<A extends BukkitCommandActor> implements CommandRegisteredHook<A> {
+public final class BrigadierRegistryHook<A extends BukkitCommandActor> implements CommandsRegisteredHook<A> {
 
     private final ActorFactory<A> actorFactory;
     private final ArgumentTypes<A> argumentTypes;
@@ -62,7 +63,7 @@ public final class BrigadierRegistryHook<A extends BukkitCommandActor> implement
     }
 
     @Override
-    public void onRegistered(@NotNull ExecutableCommand<A> command, @NotNull CancelHandle cancelHandle) {
-        bridge.register(command);
+    public void onRegistered(@NotNull List<ExecutableCommand<A>> commands) {
+        bridge.registerAll(commands);
     }
 }
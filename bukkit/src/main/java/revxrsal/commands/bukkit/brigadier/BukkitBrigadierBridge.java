@@ -72,4 +72,16 @@ public interface BukkitBrigadierBridge<A extends BukkitCommandActor> {
      * @param command the command to read aliases from
      */
     void register(ExecutableCommand<A> command);
+
+    /**
+     * Registers all the given commands at once. Bridges should override
+     * this when they can share work between commands, such as looking
+     * up the dispatcher.
+     *
+     * @param commands the commands to register
+     */
+    default void registerAll(@NotNull List<ExecutableCommand<A>> commands) {
+        for (ExecutableCommand<A> command : commands)
+            register(command);
+    }
 }
\ No newline at end of file
@@ -52,10 +52,7 @@ import revxrsal.commands.node.ParameterNode;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static revxrsal.commands.bukkit.brigadier.BrigadierUtil.*;
@@ -124,35 +121,43 @@ final class ByReflection<A extends BukkitCommandActor> implements BukkitBrigadie
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private void register(LiteralCommandNode<Object> node) {
+    private void register(RootCommandNode root, LiteralCommandNode<Object> node) {
         Objects.requireNonNull(node, "node");
 
-        CommandDispatcher dispatcher = getDispatcher();
-        RootCommandNode root = dispatcher.getRoot();
-
         BrigadierUtil.removeChild(root, node.getName());
         BrigadierParser.addChild(root, node);
         BrigadierParser.addChild(registeredNodes, node);
     }
 
     @Override public void register(ExecutableCommand<A> command) {
-        Objects.requireNonNull(command, "command");
-        LiteralCommandNode<Object> node = parser.createNode(command);
+        registerAll(Collections.singletonList(command));
+    }
 
-        PluginCommand bCommand = getCommand(plugin, command.firstNode().name());
-        Collection<String> aliases = BukkitBrigadierBridge.getAliases(bCommand);
-        if (!aliases.contains(node.getLiteral())) {
-            node = renameLiteralNode(node, command.firstNode().name());
-        }
+    @Override public void registerAll(@NotNull List<ExecutableCommand<A>> commands) {
+        RootCommandNode<?> root = getDispatcher().getRoot();
+        Map<String, PluginCommand> pluginCommands = new LinkedHashMap<>();
+        for (ExecutableCommand<A> command : commands) {
+            Objects.requireNonNull(command, "command");
+            LiteralCommandNode<Object> node = parser.createNode(command);
+
+            PluginCommand bCommand = pluginCommands.computeIfAbsent(
+                    command.firstNode().name(),
+                    name -> getCommand(plugin, name)
+            );
+            Collection<String> aliases = BukkitBrigadierBridge.getAliases(bCommand);
+            if (!aliases.contains(node.getLiteral())) {
+                node = renameLiteralNode(node, command.firstNode().name());
+            }
 
-        for (String alias : aliases) {
-            if (node.getLiteral().equals(alias)) {
-                register(node);
-            } else {
-                register(LiteralArgumentBuilder.literal(alias).redirect(node).build());
+            for (String alias : aliases) {
+                if (node.getLiteral().equals(alias)) {
+                    register(root, node);
+                } else {
+                    register(root, LiteralArgumentBuilder.literal(alias).redirect(node).build());
+                }
             }
         }
-        plugin.getServer().getPluginManager().registerEvents(new CommandDataSendListener(bCommand), plugin);
+        plugin.getServer().getPluginManager().registerEvents(new CommandDataSendListener(pluginCommands.values()), plugin);
     }
 
     @Override public @NotNull ArgumentType<?> getArgumentType(@NotNull ParameterNode<A, ?> parameter) {
@@ -171,8 +176,9 @@ final class ByReflection<A extends BukkitCommandActor> implements BukkitBrigadie
 
         private final Set<String> minecraftPrefixedAliases;
 
-        CommandDataSendListener(Command pluginCommand) {
-            minecraftPrefixedAliases = BukkitBrigadierBridge.getAliases(pluginCommand).stream()
+        CommandDataSendListener(Collection<? extends Command> pluginCommands) {
+            minecraftPrefixedAliases = pluginCommands.stream()
+                    .flatMap(command -> BukkitBrigadierBridge.getAliases(command).stream())
                     .map(alias -> "minecraft:" + alias).collect(Collectors.toSet());
         }
 
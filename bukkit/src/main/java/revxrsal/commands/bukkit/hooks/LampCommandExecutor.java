@@ -35,7 +35,6 @@ import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
 
 import java.util.List;
-import java.util.StringJoiner;
 
 import static revxrsal.commands.util.Collections.map;
 import static revxrsal.commands.util.Strings.stripNamespace;
@@ -56,11 +55,7 @@ public final class LampCommandExecutor<A extends BukkitCommandActor> implements
     }
 
     private static @NotNull MutableStringStream createInput(String commandName, String[] args) {
-        StringJoiner userInput = new StringJoiner(" ");
-        userInput.add(stripNamespace(commandName));
-        for (@NotNull String arg : args)
-            userInput.add(arg);
-        return StringStream.createMutable(userInput.toString());
+        return StringStream.createMutable(stripNamespace(commandName), args);
     }
 
     @Override
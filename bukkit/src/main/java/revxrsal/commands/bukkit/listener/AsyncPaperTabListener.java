@@ -59,7 +59,9 @@ public final class AsyncPaperTabListener<A extends BukkitCommandActor> implement
         );
         A actor = actorFactory.create(event.getSender(), lamp);
         try {
-            List<String> complete = lamp.autoCompleter().complete(actor, stream);
+            // the event is already asynchronous, so waiting is fine. the
+            // completion timeout bounds how long we may wait.
+            List<String> complete = lamp.autoCompleter().completeAsync(actor, stream).join();
             if (complete.isEmpty()) {
                 return;
             }
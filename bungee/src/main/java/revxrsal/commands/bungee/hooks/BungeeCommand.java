@@ -11,7 +11,6 @@ import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
 
 import java.util.List;
-import java.util.StringJoiner;
 
 import static revxrsal.commands.util.Collections.map;
 import static revxrsal.commands.util.Strings.stripNamespace;
@@ -33,11 +32,7 @@ final class BungeeCommand<A extends BungeeCommandActor> extends Command implemen
     }
 
     private static @NotNull MutableStringStream createInput(String commandName, String[] args) {
-        StringJoiner userInput = new StringJoiner(" ");
-        userInput.add(stripNamespace(commandName));
-        for (@NotNull String arg : args)
-            userInput.add(arg);
-        return StringStream.createMutable(userInput.toString());
+        return StringStream.createMutable(stripNamespace(commandName), args);
     }
 
     @Override public void execute(CommandSender sender, String[] args) {
@@ -27,7 +27,9 @@ import org.jetbrains.annotations.*;
 import revxrsal.commands.annotation.Dependency;
 import revxrsal.commands.annotation.dynamic.AnnotationReplacer;
 import revxrsal.commands.annotation.list.AnnotationList;
+import revxrsal.commands.autocomplete.AsyncSuggestionProvider;
 import revxrsal.commands.autocomplete.AutoCompleter;
+import revxrsal.commands.autocomplete.CompletionExecutor;
 import revxrsal.commands.autocomplete.SuggestionProvider;
 import revxrsal.commands.autocomplete.SuggestionProviders;
 import revxrsal.commands.command.*;
@@ -67,6 +69,7 @@ import static revxrsal.commands.util.Classes.checkRetention;
 import static revxrsal.commands.util.Classes.wrap;
 import static revxrsal.commands.util.Collections.copyList;
 import static revxrsal.commands.util.Collections.copyMap;
+import static revxrsal.commands.util.Collections.filter;
 import static revxrsal.commands.util.Preconditions.notNull;
 
 /**
@@ -96,6 +99,7 @@ public final class Lamp<A extends CommandActor> {
     private final DispatcherSettings<A> dispatcherSettings;
     private final BaseCommandRegistry<A> tree;
     private final AutoCompleter<A> autoCompleter;
+    private final CompletionExecutor completionExecutor;
 
     @SuppressWarnings("unchecked")
     public Lamp(Builder<A> builder) {
@@ -115,6 +119,7 @@ public final class Lamp<A extends CommandActor> {
         this.hooks = builder.hooks.build();
         this.exceptionHandler = builder.exceptionHandler;
         this.dispatcherSettings = builder.dispatcherSettings.build();
+        this.completionExecutor = builder.completionExecutor == null ? CompletionExecutor.create() : builder.completionExecutor;
         this.tree = new BaseCommandRegistry<>(this);
         this.autoCompleter = AutoCompleter.create(this);
     }
@@ -283,12 +288,37 @@ public final class Lamp<A extends CommandActor> {
     /**
      * Registers the given instance to the command handler. This
      * can deal with {@link Orphans orphan commands} as well as {@link Class} objects.
+     * <p>
+     * All the given instances are registered as a single batch: they are all
+     * parsed first, then added to the registry at once. If any of them fails
+     * to parse, none of them will be registered.
      *
      * @param instances The instance to register
      * @return The newly registered commands (as an immutable list).
+     * @see #registerAll(Iterable)
      */
     public @NotNull @Unmodifiable List<ExecutableCommand<A>> register(Object... instances) {
-        List<ExecutableCommand<A>> registered = new ArrayList<>();
+        return registerAll(Arrays.asList(instances));
+    }
+
+    /**
+     * Registers all the given instances to the command handler as a single
+     * batch. This can deal with {@link Orphans orphan commands} as well as
+     * {@link Class} objects.
+     * <p>
+     * All the commands are parsed first, then added to the registry and
+     * sorted once. {@link revxrsal.commands.hook.CommandsRegisteredHook Batch registration hooks}
+     * are invoked once with all the registered commands, which allows platforms
+     * to sync their commands only once.
+     * <p>
+     * If any of the instances fails to parse, none of them will be registered.
+     *
+     * @param instances The instances to register
+     * @return The newly registered commands (as an immutable list).
+     */
+    public @NotNull @Unmodifiable List<ExecutableCommand<A>> registerAll(@NotNull Iterable<?> instances) {
+        notNull(instances, "instances");
+        List<ExecutableCommand<A>> parsed = new ArrayList<>();
         for (Object instance : instances) {
             Class<?> commandClass = instance instanceof Class ? (Class<?>) instance : instance.getClass();
             if (instance instanceof OrphanCommand) {
@@ -302,12 +332,12 @@ public final class Lamp<A extends CommandActor> {
                 OrphanRegistry registry = (OrphanRegistry) instance;
                 commandClass = registry.handler().getClass();
                 instance = registry.handler();
-                registered.addAll(tree.register(commandClass, instance, registry.paths()));
+                parsed.addAll(tree.parse(commandClass, instance, registry.paths()));
             } else {
-                registered.addAll(tree.register(commandClass, instance));
+                parsed.addAll(tree.parse(commandClass, instance, null));
             }
         }
-        return registered;
+        return tree.registerAll(parsed);
     }
 
     /**
@@ -485,6 +515,20 @@ public final class Lamp<A extends CommandActor> {
         }
     }
 
+    /**
+     * Returns the {@link ParameterValidator}s that may apply to the given
+     * parameter. This excludes validators that were registered for types that
+     * the parameter type is not assignable to.
+     *
+     * @param parameter The parameter to get validators for
+     * @return The validators that may apply to the parameter
+     */
+    @ApiStatus.Internal
+    public @NotNull @Unmodifiable List<ParameterValidator<A, Object>> validatorsFor(@NotNull ParameterNode<A, ?> parameter) {
+        return filter(validators, validator -> !(validator instanceof TypedParameterValidator)
+                || ((TypedParameterValidator<?, ?>) validator).appliesTo(parameter));
+    }
+
     /**
      * Returns the {@link AutoCompleter} of this {@link Lamp} instance
      *
@@ -494,6 +538,17 @@ public final class Lamp<A extends CommandActor> {
         return autoCompleter;
     }
 
+    /**
+     * Returns the {@link CompletionExecutor} that runs asynchronous
+     * suggestions of this {@link Lamp} instance
+     *
+     * @return The completion executor
+     * @see Builder#completionExecutor(CompletionExecutor)
+     */
+    public @NotNull CompletionExecutor completionExecutor() {
+        return completionExecutor;
+    }
+
     /**
      * Handles the given exception in the given context. This will
      * pass the exception to the {@link #exceptionHandler}
@@ -603,6 +658,7 @@ public final class Lamp<A extends CommandActor> {
         private MessageSender<? super A, String> errorSender = CommandActor::sendRawError;
         private CommandExceptionHandler<A> exceptionHandler = new DefaultExceptionHandler<>();
         private ParameterNamingStrategy namingStrategy = ParameterNamingStrategy.lowerCaseWithSpace();
+        private @Nullable CompletionExecutor completionExecutor;
 
         public Builder() {
             parameterValidator(Number.class, RangeChecker.INSTANCE);
@@ -783,17 +839,10 @@ public final class Lamp<A extends CommandActor> {
          * @return This builder instance
          * @see ParameterValidator
          */
-        @SuppressWarnings("rawtypes")
         public <T> Builder<A> parameterValidator(Class<T> type, @NotNull ParameterValidator<? super A, T> validator) {
             notNull(type, "type");
             notNull(validator, "parameter validator");
-            Class<?> wrapped = wrap(type);
-            validators.add((actor, value, parameter, lamp) -> {
-                if (!wrapped.isAssignableFrom(wrap(parameter.type())))
-                    return;
-                //noinspection unchecked
-                validator.validate(actor, (T) value, ((ParameterNode) parameter), (Lamp) lamp);
-            });
+            validators.add(new TypedParameterValidator<>(wrap(type), validator));
             return this;
         }
 
@@ -924,6 +973,22 @@ public final class Lamp<A extends CommandActor> {
             return this;
         }
 
+        /**
+         * Sets the executor that runs asynchronous suggestions, such as the
+         * ones created by {@link AsyncSuggestionProvider#from(SuggestionProvider)}.
+         * <p>
+         * By default, each {@link Lamp} instance has its own executor, created
+         * with {@link CompletionExecutor#create()}.
+         *
+         * @param executor The executor to use
+         * @return This builder instance
+         */
+        public Builder<A> completionExecutor(@NotNull CompletionExecutor executor) {
+            notNull(executor, "completion executor");
+            this.completionExecutor = executor;
+            return this;
+        }
+
         /**
          * Registers the default message sender used by {@link CommandActor#reply(String)}
          *
@@ -973,4 +1038,34 @@ public final class Lamp<A extends CommandActor> {
             return new Lamp<>(this);
         }
     }
+
+    /**
+     * A {@link ParameterValidator} that only validates parameters of
+     * a certain type. See {@link Builder#parameterValidator(Class, ParameterValidator)}.
+     *
+     * @param <A> The actor type
+     * @param <T> The parameter type
+     */
+    private static final class TypedParameterValidator<A extends CommandActor, T> implements ParameterValidator<A, Object> {
+
+        private final Class<?> type;
+        private final ParameterValidator<? super A, T> validator;
+
+        private TypedParameterValidator(Class<?> type, ParameterValidator<? super A, T> validator) {
+            this.type = type;
+            this.validator = validator;
+        }
+
+        public boolean appliesTo(@NotNull ParameterNode<?, ?> parameter) {
+            return type.isAssignableFrom(wrap(parameter.type()));
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public void validate(@NotNull A actor, Object value, @NotNull ParameterNode<A, Object> parameter, @NotNull Lamp<A> lamp) {
+            if (!appliesTo(parameter))
+                return;
+            validator.validate(actor, (T) value, ((ParameterNode) parameter), (Lamp) lamp);
+        }
+    }
 }
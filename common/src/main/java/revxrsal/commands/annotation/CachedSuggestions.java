@@ -0,0 +1,104 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.annotation;
+
+import revxrsal.commands.autocomplete.CachingSuggestionProvider;
+import revxrsal.commands.autocomplete.SuggestionProvider;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the suggestions of a parameter for a certain time. This is useful
+ * for {@link SuggestionProvider}s that are expensive to compute, such as ones that
+ * query a database or iterate a large collection.
+ * <p>
+ * This applies to whichever suggestions the parameter ends up with, including
+ * the default suggestions of its parameter type.
+ * <p>
+ * Note that the cached suggestions do not depend on the input or the
+ * other arguments of the command, so this should only be used for providers
+ * whose suggestions do not depend on them.
+ * <p>
+ * The cache can be invalidated through the {@link CachingSuggestionProvider}
+ * of the parameter, which can be accessed
+ * using {@link revxrsal.commands.node.ParameterNode#suggestions()}.
+ *
+ * @see SuggestionProvider#cached(long, TimeUnit, Scope, int)
+ * @see CachingSuggestionProvider
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedSuggestions {
+
+    /**
+     * The time for which suggestions are cached
+     *
+     * @return The time to live
+     */
+    long value();
+
+    /**
+     * The unit of {@link #value()}
+     *
+     * @return The time unit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * Whether suggestions are shared by all actors, or cached
+     * for each actor individually
+     *
+     * @return The scope of the cache
+     */
+    Scope scope() default Scope.GLOBAL;
+
+    /**
+     * The maximum number of entries kept in the cache. This only
+     * matters for {@link Scope#PER_ACTOR}, in which the least recently
+     * used entries are discarded first.
+     *
+     * @return The maximum size
+     */
+    int maximumSize() default 1000;
+
+    /**
+     * The scope of cached suggestions
+     */
+    enum Scope {
+
+        /**
+         * Suggestions are computed once and shared by all actors
+         */
+        GLOBAL,
+
+        /**
+         * Suggestions are computed and cached for each actor
+         */
+        PER_ACTOR
+    }
+}
@@ -24,6 +24,7 @@
 package revxrsal.commands.autocomplete;
 
 import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.Lamp;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.node.ExecutionContext;
 
@@ -43,14 +44,17 @@ import java.util.concurrent.CompletableFuture;
 public interface AsyncSuggestionProvider<A extends CommandActor> extends BaseSuggestionProvider {
 
     /**
-     * Creates a {@link AsyncSuggestionProvider} from the given {@link SuggestionProvider}
+     * Creates a {@link AsyncSuggestionProvider} from the given {@link SuggestionProvider}.
+     * <p>
+     * The suggestions are supplied on the {@link Lamp#completionExecutor() completion executor}
+     * of the context's {@link Lamp} instance.
      *
      * @param provider Provider to wrap
      * @param <A>      The actor type
      * @return The {@link AsyncSuggestionProvider}
      */
     static <A extends CommandActor> @NotNull AsyncSuggestionProvider<A> from(@NotNull SuggestionProvider<A> provider) {
-        return context -> CompletableFuture.supplyAsync(() -> provider.getSuggestions(context));
+        return context -> context.lamp().completionExecutor().supply(() -> provider.getSuggestions(context));
     }
 
     /**
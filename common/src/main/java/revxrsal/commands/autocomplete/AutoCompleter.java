@@ -29,9 +29,12 @@ import revxrsal.commands.Lamp;
 import revxrsal.commands.annotation.Suggest;
 import revxrsal.commands.annotation.SuggestWith;
 import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.node.DispatcherSettings;
 import revxrsal.commands.stream.StringStream;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Represents an auto-completer that provides suggestions for the
@@ -58,7 +61,11 @@ public interface AutoCompleter<A extends CommandActor> {
      */
     @ApiStatus.Internal
     static <A extends CommandActor> @NotNull AutoCompleter<A> create(@NotNull Lamp<A> lamp) {
-        return new StandardAutoCompleter<>(lamp);
+        AutoCompleter<A> autoCompleter = new StandardAutoCompleter<>(lamp);
+        Function<? super A, ?> coalescingKey = lamp.dispatcherSettings().completionCoalescingKey();
+        if (coalescingKey != null)
+            return new CoalescingAutoCompleter<>(autoCompleter, coalescingKey);
+        return autoCompleter;
     }
 
     /**
@@ -90,4 +97,42 @@ public interface AutoCompleter<A extends CommandActor> {
      * @return The completions
      */
     @NotNull List<String> complete(@NotNull A actor, @NotNull StringStream input);
+
+    /**
+     * Returns a future of the suggestions for the given input and actor.
+     * <p>
+     * Unlike {@link #complete(CommandActor, String)}, this does not block
+     * on {@link AsyncSuggestionProvider AsyncSuggestionProviders}, and instead
+     * composes their futures. If a {@link DispatcherSettings#completionTimeout() completion timeout}
+     * is set, the future completes when the deadline passes with the suggestions
+     * of the providers that completed in time.
+     * <p>
+     * Providers that fail are ignored.
+     *
+     * @param actor The actor to supply for
+     * @param input The input to parse with
+     * @return The completions
+     */
+    default @NotNull CompletableFuture<List<String>> completeAsync(@NotNull A actor, @NotNull String input) {
+        return completeAsync(actor, StringStream.create(input));
+    }
+
+    /**
+     * Returns a future of the suggestions for the given input and actor.
+     * <p>
+     * Unlike {@link #complete(CommandActor, StringStream)}, this does not block
+     * on {@link AsyncSuggestionProvider AsyncSuggestionProviders}, and instead
+     * composes their futures. If a {@link DispatcherSettings#completionTimeout() completion timeout}
+     * is set, the future completes when the deadline passes with the suggestions
+     * of the providers that completed in time.
+     * <p>
+     * Providers that fail are ignored.
+     *
+     * @param actor The actor to supply for
+     * @param input The input to parse with
+     * @return The completions
+     */
+    default @NotNull CompletableFuture<List<String>> completeAsync(@NotNull A actor, @NotNull StringStream input) {
+        return CompletableFuture.completedFuture(complete(actor, input));
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.annotation.CachedSuggestions;
+import revxrsal.commands.annotation.CachedSuggestions.Scope;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.node.ExecutionContext;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static revxrsal.commands.util.Preconditions.notNull;
+
+/**
+ * A {@link SuggestionProvider} that caches the suggestions of another
+ * provider for a certain time.
+ * <p>
+ * Entries are evicted once they expire, or when the cache exceeds its
+ * maximum size, in which the least recently used entries are discarded
+ * first. The cache can also be invalidated explicitly using {@link #invalidateAll()}
+ * and {@link #invalidate(CommandActor)}.
+ * <p>
+ * Create using {@link SuggestionProvider#cached(long, TimeUnit, Scope, int)}, or
+ * by annotating the parameter with {@link CachedSuggestions @CachedSuggestions}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <A> The actor type
+ */
+public final class CachingSuggestionProvider<A extends CommandActor> implements SuggestionProvider<A>, AsyncSuggestionProvider<A> {
+
+    /**
+     * The key used for {@link Scope#GLOBAL} caches
+     */
+    private static final UUID GLOBAL_KEY = new UUID(0, 0);
+
+    private final SuggestionProvider<A> delegate;
+    private final long ttl;
+    private final Scope scope;
+    private final Map<UUID, CacheEntry> entries;
+
+    CachingSuggestionProvider(@NotNull SuggestionProvider<A> delegate, long ttl, @NotNull TimeUnit unit, @NotNull Scope scope, int maximumSize) {
+        notNull(delegate, "delegate");
+        notNull(unit, "unit");
+        notNull(scope, "scope");
+        if (ttl <= 0)
+            throw new IllegalArgumentException("The time to live must be positive!");
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("The maximum size must be positive!");
+        this.delegate = delegate;
+        this.ttl = unit.toMillis(ttl);
+        this.scope = scope;
+        this.entries = new LinkedHashMap<UUID, CacheEntry>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<UUID, CacheEntry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Collection<String> getSuggestions(@NotNull ExecutionContext<A> context) {
+        UUID key = keyOf(context.actor());
+        Collection<String> cached = getCached(key);
+        if (cached != null)
+            return cached;
+        return put(key, delegate.getSuggestions(context));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull CompletableFuture<Collection<String>> getSuggestionsAsync(@NotNull ExecutionContext<A> context) {
+        UUID key = keyOf(context.actor());
+        Collection<String> cached = getCached(key);
+        if (cached != null)
+            return CompletableFuture.completedFuture(cached);
+        if (delegate instanceof AsyncSuggestionProvider)
+            return ((AsyncSuggestionProvider<A>) delegate).getSuggestionsAsync(context)
+                    .thenApply(suggestions -> put(key, suggestions));
+        return CompletableFuture.completedFuture(put(key, delegate.getSuggestions(context)));
+    }
+
+    /**
+     * Invalidates all the cached suggestions
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Invalidates the suggestions cached for the given actor. If
+     * this cache is {@link Scope#GLOBAL}, this invalidates all the
+     * cached suggestions.
+     *
+     * @param actor The actor to invalidate for
+     */
+    public void invalidate(@NotNull A actor) {
+        notNull(actor, "actor");
+        synchronized (entries) {
+            entries.remove(keyOf(actor));
+        }
+    }
+
+    /**
+     * Returns the provider whose suggestions are cached
+     *
+     * @return The underlying provider
+     */
+    public @NotNull SuggestionProvider<A> delegate() {
+        return delegate;
+    }
+
+    private @NotNull UUID keyOf(@NotNull A actor) {
+        return scope == Scope.GLOBAL ? GLOBAL_KEY : actor.uniqueId();
+    }
+
+    private Collection<String> getCached(@NotNull UUID key) {
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry == null)
+                return null;
+            if (System.currentTimeMillis() >= entry.expiresAt) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.suggestions;
+        }
+    }
+
+    private @NotNull Collection<String> put(@NotNull UUID key, @NotNull Collection<String> suggestions) {
+        List<String> copy = Collections.unmodifiableList(new ArrayList<>(suggestions));
+        CacheEntry entry = new CacheEntry(copy, System.currentTimeMillis() + ttl);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+        return copy;
+    }
+
+    private static final class CacheEntry {
+        private final List<String> suggestions;
+        private final long expiresAt;
+
+        private CacheEntry(List<String> suggestions, long expiresAt) {
+            this.suggestions = suggestions;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
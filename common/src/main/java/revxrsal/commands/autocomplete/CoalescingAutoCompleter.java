@@ -0,0 +1,145 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.node.DispatcherSettings;
+import revxrsal.commands.stream.StringStream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * An {@link AutoCompleter} that coalesces identical completions that run at
+ * the same time. When an actor completes an input that is already being completed
+ * for an equivalent actor, it waits for the completion that is in flight rather
+ * than running its own.
+ * <p>
+ * Actors are equivalent if they have the same key, as given by the
+ * {@link DispatcherSettings#completionCoalescingKey() coalescing key function}.
+ * The key should capture everything that suggestions depend on, such as
+ * permissions. Results are never reused after a completion finishes.
+ * <p>
+ * Each caller receives its own copy of the suggestions.
+ *
+ * @param <A> The actor type
+ * @see DispatcherSettings.Builder#coalesceCompletions(Function)
+ */
+final class CoalescingAutoCompleter<A extends CommandActor> implements AutoCompleter<A> {
+
+    private final AutoCompleter<A> delegate;
+    private final Function<? super A, ?> equivalenceKey;
+    private final ConcurrentMap<Key, CompletableFuture<List<String>>> inFlight = new ConcurrentHashMap<>();
+
+    CoalescingAutoCompleter(@NotNull AutoCompleter<A> delegate, @NotNull Function<? super A, ?> equivalenceKey) {
+        this.delegate = delegate;
+        this.equivalenceKey = equivalenceKey;
+    }
+
+    @Override
+    public @NotNull List<String> complete(@NotNull A actor, @NotNull String input) {
+        return complete(actor, StringStream.create(input));
+    }
+
+    @Override
+    public @NotNull List<String> complete(@NotNull A actor, @NotNull StringStream input) {
+        Key key = new Key(input.source(), equivalenceKey.apply(actor));
+        CompletableFuture<List<String>> flight = new CompletableFuture<>();
+        CompletableFuture<List<String>> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            try {
+                return new ArrayList<>(existing.join());
+            } catch (Throwable t) {
+                return delegate.complete(actor, input);
+            }
+        }
+        try {
+            List<String> suggestions = delegate.complete(actor, input);
+            inFlight.remove(key, flight);
+            flight.complete(Collections.unmodifiableList(new ArrayList<>(suggestions)));
+            return suggestions;
+        } catch (Throwable t) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<String>> completeAsync(@NotNull A actor, @NotNull StringStream input) {
+        Key key = new Key(input.source(), equivalenceKey.apply(actor));
+        CompletableFuture<List<String>> flight = new CompletableFuture<>();
+        CompletableFuture<List<String>> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null)
+            return existing.thenApply(ArrayList::new);
+        CompletableFuture<List<String>> result;
+        try {
+            result = delegate.completeAsync(actor, input);
+        } catch (Throwable t) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(t);
+            throw t;
+        }
+        result.whenComplete((suggestions, error) -> {
+            inFlight.remove(key, flight);
+            if (error != null)
+                flight.completeExceptionally(error);
+            else
+                flight.complete(Collections.unmodifiableList(new ArrayList<>(suggestions)));
+        });
+        return flight.thenApply(ArrayList::new);
+    }
+
+    private static final class Key {
+        private final String input;
+        private final Object group;
+        private final int hash;
+
+        private Key(String input, Object group) {
+            this.input = input;
+            this.group = group;
+            this.hash = 31 * input.hashCode() + Objects.hashCode(group);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return input.equals(key.input) && Objects.equals(group, key.group);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static revxrsal.commands.util.Preconditions.cannotInstantiate;
+
+/**
+ * A utility for bounding asynchronous completions by a deadline, so that
+ * slow suggestion providers cannot hold back the suggestions of other
+ * providers, or stall the platform waiting for them.
+ */
+@ApiStatus.Internal
+public final class CompletionDeadlines {
+
+    private CompletionDeadlines() {
+        cannotInstantiate(CompletionDeadlines.class);
+    }
+
+    /**
+     * Returns a future that completes with the result of the given future,
+     * or with the fallback value if the given future does not complete
+     * within the deadline, or completes exceptionally.
+     * <p>
+     * The given future is left untouched if the deadline passes.
+     *
+     * @param future   The future to bound
+     * @param timeout  The deadline, in milliseconds. Zero or less means no deadline.
+     * @param fallback The value to complete with if the future fails or times out
+     * @param <T>      The future type
+     * @return The bounded future
+     */
+    public static <T> @NotNull CompletableFuture<T> within(
+            @NotNull CompletableFuture<T> future,
+            long timeout,
+            T fallback
+    ) {
+        CompletableFuture<T> bounded = new CompletableFuture<>();
+        future.whenComplete((value, error) -> bounded.complete(error == null ? value : fallback));
+        if (timeout > 0 && !bounded.isDone()) {
+            ScheduledFuture<?> expiry = Scheduler.INSTANCE.schedule(
+                    () -> bounded.complete(fallback),
+                    timeout,
+                    TimeUnit.MILLISECONDS
+            );
+            bounded.whenComplete((value, error) -> expiry.cancel(false));
+        }
+        return bounded;
+    }
+
+    /**
+     * Lazily creates the scheduler, so that it is only started when a
+     * deadline is actually used.
+     */
+    private static final class Scheduler {
+
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Lamp Completion Deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
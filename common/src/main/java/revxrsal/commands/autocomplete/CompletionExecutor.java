@@ -0,0 +1,213 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+import revxrsal.commands.Lamp;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Executor} that runs suggestion providers asynchronously. It
+ * has a fixed number of threads and a bounded queue, so that slow providers
+ * cannot take over the JVM-wide common pool or pile up work indefinitely.
+ * <p>
+ * When the queue is full, {@link #supply(Supplier)} returns empty suggestions
+ * rather than failing. Suppliers that are submitted from one of the threads of
+ * the executor itself are run inline, so that a task that waits for the tasks
+ * it submits cannot wait behind them in the queue.
+ * <p>
+ * Threads are created as needed, and terminate after being idle for a minute.
+ *
+ * @see Lamp.Builder#completionExecutor(CompletionExecutor)
+ * @see AsyncSuggestionProvider#from(SuggestionProvider)
+ */
+public final class CompletionExecutor implements Executor {
+
+    /**
+     * The default number of tasks that may be queued
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Identifies the threads created for this executor
+     */
+    private final Object owner;
+
+    private CompletionExecutor(ThreadPoolExecutor executor, Object owner) {
+        this.executor = executor;
+        this.owner = owner;
+    }
+
+    /**
+     * Creates a new {@link CompletionExecutor} with as many threads as there
+     * are available processors, and a queue of {@link #DEFAULT_QUEUE_CAPACITY}
+     * tasks.
+     *
+     * @return The newly created executor
+     */
+    public static @NotNull CompletionExecutor create() {
+        return create(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link CompletionExecutor}
+     *
+     * @param threads       The maximum number of threads
+     * @param queueCapacity The maximum number of tasks that may wait for a thread
+     * @return The newly created executor
+     */
+    public static @NotNull CompletionExecutor create(
+            @Range(from = 1, to = Integer.MAX_VALUE) int threads,
+            @Range(from = 1, to = Integer.MAX_VALUE) int queueCapacity
+    ) {
+        if (threads < 1)
+            throw new IllegalArgumentException("Thread count must be at least 1!");
+        if (queueCapacity < 1)
+            throw new IllegalArgumentException("Queue capacity must be at least 1!");
+        int pool = POOL_COUNT.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger();
+        Object owner = new Object();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads,
+                1, TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Worker(runnable, "Lamp Completions #" + pool + "-" + threadCount.incrementAndGet(), owner);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return new CompletionExecutor(executor, owner);
+    }
+
+    /**
+     * Runs the given suggestion supplier on this executor. If the
+     * executor cannot accept any more tasks, this returns empty
+     * suggestions.
+     * <p>
+     * If this is invoked from a thread of this executor, the supplier is
+     * run inline, and the returned future is already complete.
+     *
+     * @param suggestions The suggestions supplier
+     * @return The future suggestions
+     */
+    public @NotNull CompletableFuture<Collection<String>> supply(@NotNull Supplier<Collection<String>> suggestions) {
+        if (isExecutorThread()) {
+            CompletableFuture<Collection<String>> future = new CompletableFuture<>();
+            try {
+                future.complete(suggestions.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+            return future;
+        }
+        try {
+            return CompletableFuture.supplyAsync(suggestions, this);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        try {
+            executor.execute(command);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * Tests whether the current thread is one of the threads of this executor
+     *
+     * @return If the current thread belongs to this executor
+     */
+    public boolean isExecutorThread() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof Worker && ((Worker) thread).owner == owner;
+    }
+
+    /**
+     * Returns the number of tasks that are waiting for a thread
+     *
+     * @return The queue depth
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Returns the number of tasks that were rejected because
+     * the queue was full
+     *
+     * @return The rejection count
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the number of threads that are currently running tasks
+     *
+     * @return The active thread count
+     */
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Shuts down this executor. Tasks that were already submitted
+     * will still run, but new tasks will be rejected.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * A thread created for a {@link CompletionExecutor}
+     */
+    private static final class Worker extends Thread {
+
+        private final Object owner;
+
+        private Worker(Runnable runnable, String name, Object owner) {
+            super(runnable, name);
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.MutableExecutionContext;
+import revxrsal.commands.node.ParameterNode;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers the last input that each actor completed, along with the
+ * nodes that were parsed for each command. This allows the completion
+ * of inputs that extend the previous input to resume from the last
+ * node that was parsed, rather than parsing all the nodes again.
+ * <p>
+ * Sessions are bounded in number, in which the least recently used sessions
+ * are discarded first, and expire after a certain time of not being used.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <A> The actor type
+ */
+final class CompletionSessions<A extends CommandActor> {
+
+    private final long expireAfter;
+    private final Map<UUID, Session<A>> sessions;
+
+    CompletionSessions(int maximumSessions, long expireAfter) {
+        this.expireAfter = expireAfter;
+        this.sessions = new LinkedHashMap<UUID, Session<A>>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<UUID, Session<A>> eldest) {
+                return size() > maximumSessions;
+            }
+        };
+    }
+
+    /**
+     * Returns the checkpoint of the given command that is still valid for
+     * the given input, if any.
+     *
+     * @param session The actor's session
+     * @param command The command
+     * @param input   The new input
+     * @return The checkpoint, or null if the command must be completed
+     * from the start
+     */
+    static <A extends CommandActor> @Nullable Checkpoint<A> checkpointFor(
+            @Nullable Session<A> session,
+            @NotNull ExecutableCommand<A> command,
+            @NotNull String input
+    ) {
+        if (session == null)
+            return null;
+        Checkpoint<A> checkpoint = session.checkpoints.get(command);
+        if (checkpoint == null || input.length() < checkpoint.position)
+            return null;
+        if (!input.regionMatches(0, session.input, 0, checkpoint.position))
+            return null;
+        return checkpoint;
+    }
+
+    /**
+     * Returns the session of the given actor, or null if it has
+     * none or if it has expired
+     *
+     * @param actor The actor's unique ID
+     * @return The session
+     */
+    synchronized @Nullable Session<A> get(@NotNull UUID actor) {
+        Session<A> session = sessions.get(actor);
+        if (session != null && System.currentTimeMillis() - session.createdAt >= expireAfter) {
+            sessions.remove(actor);
+            return null;
+        }
+        return session;
+    }
+
+    /**
+     * Replaces the session of the given actor
+     *
+     * @param actor   The actor's unique ID
+     * @param session The new session
+     */
+    synchronized void put(@NotNull UUID actor, @NotNull Session<A> session) {
+        sessions.put(actor, session);
+    }
+
+    /**
+     * The input an actor has completed, and the deepest checkpoint that
+     * was reached for each command
+     */
+    static final class Session<A extends CommandActor> {
+
+        private final String input;
+        private final Map<ExecutableCommand<A>, Checkpoint<A>> checkpoints;
+        private final long createdAt = System.currentTimeMillis();
+
+        Session(@NotNull String input, @NotNull Map<ExecutableCommand<A>, Checkpoint<A>> checkpoints) {
+            this.input = input;
+            this.checkpoints = checkpoints;
+        }
+    }
+
+    /**
+     * A point in the command nodes from which completion can resume. All nodes
+     * before {@link #nodeIndex} have been parsed from the input that comes
+     * before {@link #position}.
+     */
+    static final class Checkpoint<A extends CommandActor> {
+
+        private final int nodeIndex;
+        private final int position;
+        private final ParameterNode<A, Object>[] parameters;
+        private final Object[] values;
+
+        @SuppressWarnings("unchecked")
+        Checkpoint(int nodeIndex, int position, @NotNull List<ParameterNode<A, Object>> parameters, @NotNull List<Object> values) {
+            this.nodeIndex = nodeIndex;
+            this.position = position;
+            this.parameters = parameters.toArray(new ParameterNode[0]);
+            this.values = values.toArray();
+        }
+
+        /**
+         * The index of the node to resume from
+         *
+         * @return The node index
+         */
+        int nodeIndex() {
+            return nodeIndex;
+        }
+
+        /**
+         * The position of the input to resume from
+         *
+         * @return The position
+         */
+        int position() {
+            return position;
+        }
+
+        /**
+         * Adds the values parsed before this checkpoint to the given context
+         *
+         * @param context The context to add to
+         */
+        void restore(@NotNull MutableExecutionContext<A> context) {
+            for (int i = 0; i < parameters.length; i++)
+                context.addResolvedArgument(parameters[i], values[i]);
+        }
+
+        void copyTo(@NotNull List<ParameterNode<A, Object>> parameters, @NotNull List<Object> values) {
+            for (int i = 0; i < this.parameters.length; i++) {
+                parameters.add(this.parameters[i]);
+                values.add(this.values[i]);
+            }
+        }
+    }
+}
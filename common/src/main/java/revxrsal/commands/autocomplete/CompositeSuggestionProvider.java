@@ -0,0 +1,241 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.node.ExecutionContext;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static revxrsal.commands.util.Collections.copyList;
+import static revxrsal.commands.util.Preconditions.notNull;
+
+/**
+ * A {@link SuggestionProvider} that merges the suggestions of several providers,
+ * for example, online players, recently seen players and offline players from
+ * a database.
+ * <p>
+ * All providers are queried concurrently. Synchronous providers are run on the
+ * {@link Lamp#completionExecutor() completion executor}. Each provider may have
+ * its own timeout, after which its suggestions are dropped, so that the slowest
+ * provider does not hold back the others. Providers that fail are ignored.
+ * <p>
+ * Suggestions are merged in the order the providers were added, without
+ * duplicates, and up to a {@link Builder#limit(int) limit}.
+ * <p>
+ * Create using {@link #builder()}
+ *
+ * @param <A> The actor type
+ */
+public final class CompositeSuggestionProvider<A extends CommandActor> implements SuggestionProvider<A>, AsyncSuggestionProvider<A> {
+
+    private final List<Child<A>> children;
+    private final int limit;
+
+    private CompositeSuggestionProvider(@NotNull Builder<A> builder) {
+        this.children = copyList(builder.children);
+        this.limit = builder.limit;
+    }
+
+    /**
+     * Creates a new {@link Builder} for {@link CompositeSuggestionProvider}s
+     *
+     * @param <A> The actor type
+     * @return The newly created builder
+     */
+    public static <A extends CommandActor> @NotNull Builder<A> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the suggestions of all providers. This blocks until all providers
+     * complete or time out.
+     * <p>
+     * When this is invoked on a thread of the completion executor (for example,
+     * through {@link AsyncSuggestionProvider#from(SuggestionProvider)}), the
+     * synchronous providers are run inline rather than queued behind it, and
+     * as such, their timeouts do not apply.
+     *
+     * @param context The execution context
+     * @return The merged suggestions
+     */
+    @Override
+    public @NotNull Collection<String> getSuggestions(@NotNull ExecutionContext<A> context) {
+        return getSuggestionsAsync(context).join();
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public @NotNull CompletableFuture<Collection<String>> getSuggestionsAsync(@NotNull ExecutionContext<A> context) {
+        CompletableFuture<Collection<String>>[] futures = new CompletableFuture[children.size()];
+        for (int i = 0; i < futures.length; i++)
+            futures[i] = children.get(i).query(context);
+        return CompletableFuture.allOf(futures).thenApply(v -> {
+            Set<String> suggestions = new LinkedHashSet<>();
+            for (CompletableFuture<Collection<String>> future : futures) {
+                for (String suggestion : future.join()) {
+                    if (suggestions.size() >= limit)
+                        return new ArrayList<>(suggestions);
+                    suggestions.add(suggestion);
+                }
+            }
+            return new ArrayList<>(suggestions);
+        });
+    }
+
+    /**
+     * A provider of a {@link CompositeSuggestionProvider}, with its timeout
+     */
+    private static final class Child<A extends CommandActor> {
+
+        private final BaseSuggestionProvider provider;
+
+        /**
+         * The timeout of the provider, in milliseconds. Zero if it has no timeout.
+         */
+        private final long timeout;
+
+        private Child(BaseSuggestionProvider provider, long timeout) {
+            this.provider = provider;
+            this.timeout = timeout;
+        }
+
+        @SuppressWarnings("unchecked")
+        private @NotNull CompletableFuture<Collection<String>> query(@NotNull ExecutionContext<A> context) {
+            CompletableFuture<Collection<String>> future;
+            try {
+                if (provider instanceof AsyncSuggestionProvider)
+                    future = ((AsyncSuggestionProvider<A>) provider).getSuggestionsAsync(context);
+                else {
+                    SuggestionProvider<A> sync = (SuggestionProvider<A>) provider;
+                    future = context.lamp().completionExecutor().supply(() -> sync.getSuggestions(context));
+                }
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+            return CompletionDeadlines.within(future, timeout, Collections.emptyList());
+        }
+    }
+
+    /**
+     * A builder for {@link CompositeSuggestionProvider}s
+     *
+     * @param <A> The actor type
+     */
+    public static final class Builder<A extends CommandActor> {
+
+        private final List<Child<A>> children = new ArrayList<>();
+        private int limit = Integer.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds the given provider, without a timeout
+         *
+         * @param provider The provider to add
+         * @return This builder
+         */
+        public @NotNull Builder<A> add(@NotNull SuggestionProvider<A> provider) {
+            return add(provider, 0, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Adds the given provider. If the provider takes longer than the given
+         * timeout, its suggestions are dropped.
+         *
+         * @param provider The provider to add
+         * @param timeout  The timeout of the provider. Zero for no timeout.
+         * @param unit     The unit of {@code timeout}
+         * @return This builder
+         */
+        public @NotNull Builder<A> add(@NotNull SuggestionProvider<A> provider, long timeout, @NotNull TimeUnit unit) {
+            return addChild(provider, timeout, unit);
+        }
+
+        /**
+         * Adds the given asynchronous provider, without a timeout
+         *
+         * @param provider The provider to add
+         * @return This builder
+         */
+        public @NotNull Builder<A> addAsync(@NotNull AsyncSuggestionProvider<A> provider) {
+            return addAsync(provider, 0, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Adds the given asynchronous provider. If the provider takes longer than
+         * the given timeout, its suggestions are dropped.
+         *
+         * @param provider The provider to add
+         * @param timeout  The timeout of the provider. Zero for no timeout.
+         * @param unit     The unit of {@code timeout}
+         * @return This builder
+         */
+        public @NotNull Builder<A> addAsync(@NotNull AsyncSuggestionProvider<A> provider, long timeout, @NotNull TimeUnit unit) {
+            return addChild(provider, timeout, unit);
+        }
+
+        private @NotNull Builder<A> addChild(@NotNull BaseSuggestionProvider provider, long timeout, @NotNull TimeUnit unit) {
+            notNull(provider, "provider");
+            notNull(unit, "unit");
+            if (timeout < 0)
+                throw new IllegalArgumentException("Timeout cannot be negative!");
+            children.add(new Child<>(provider, unit.toMillis(timeout)));
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of merged suggestions. By default, there
+         * is no limit.
+         *
+         * @param limit The maximum number of suggestions
+         * @return This builder
+         */
+        public @NotNull Builder<A> limit(@Range(from = 1, to = Integer.MAX_VALUE) int limit) {
+            if (limit < 1)
+                throw new IllegalArgumentException("Limit must be at least 1!");
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Creates a new {@link CompositeSuggestionProvider} from this builder
+         *
+         * @return The newly created provider
+         */
+        @Contract(value = "-> new", pure = true)
+        public @NotNull CompositeSuggestionProvider<A> build() {
+            if (children.isEmpty())
+                throw new IllegalStateException("A composite suggestion provider must have at least one provider!");
+            return new CompositeSuggestionProvider<>(this);
+        }
+    }
+}
@@ -3,12 +3,14 @@ package revxrsal.commands.autocomplete;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.autocomplete.CompletionSessions.Checkpoint;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.node.*;
 import revxrsal.commands.stream.MutableStringStream;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static revxrsal.commands.node.DispatcherSettings.LONG_FORMAT_PREFIX;
 import static revxrsal.commands.node.DispatcherSettings.SHORT_FORMAT_PREFIX;
@@ -28,10 +30,49 @@ final class SingleCommandCompleter<A extends CommandActor> {
 
     private int positionBeforeParsing = -1;
 
+    /**
+     * The checkpoint to resume completion from, if any
+     */
+    private final @Nullable Checkpoint<A> resumeFrom;
+
+    /**
+     * The deepest checkpoint reached while completing
+     */
+    private @Nullable Checkpoint<A> checkpoint;
+
+    /**
+     * The suggestions of {@link AsyncSuggestionProvider AsyncSuggestionProviders}
+     * that are yet to complete. This is null if completing synchronously, in
+     * which case asynchronous providers will block.
+     */
+    private final @Nullable List<CompletableFuture<List<String>>> pending;
+
+    /**
+     * The maximum number of suggestions to collect from a provider
+     */
+    private final int limit;
+
     public SingleCommandCompleter(A actor, ExecutableCommand<A> command, MutableStringStream input) {
+        this(actor, command, input, null);
+    }
+
+    public SingleCommandCompleter(A actor, ExecutableCommand<A> command, MutableStringStream input, @Nullable Checkpoint<A> resumeFrom) {
+        this(actor, command, input, resumeFrom, false);
+    }
+
+    public SingleCommandCompleter(
+            A actor,
+            ExecutableCommand<A> command,
+            MutableStringStream input,
+            @Nullable Checkpoint<A> resumeFrom,
+            boolean async
+    ) {
         this.command = command;
         this.input = input;
         this.context = ExecutionContext.createMutable(command, actor, input.toImmutableView());
+        this.resumeFrom = resumeFrom;
+        this.pending = async ? new ArrayList<>(1) : null;
+        this.limit = command.lamp().dispatcherSettings().maximumSuggestions();
     }
 
     private void rememberPosition() {
@@ -51,8 +92,22 @@ final class SingleCommandCompleter<A extends CommandActor> {
 
     public void complete() {
         Map<String, ParameterNode<A, Object>> remainingFlags = null;
-        for (CommandNode<A> node : command.nodes()) {
+        List<CommandNode<A>> nodes = command.nodes();
+        List<ParameterNode<A, Object>> parsed = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        int start = 0;
+        if (resumeFrom != null) {
+            start = resumeFrom.nodeIndex();
+            input.setPosition(resumeFrom.position());
+            resumeFrom.restore(context);
+            resumeFrom.copyTo(parsed, values);
+            checkpoint = resumeFrom;
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            CommandNode<A> node = nodes.get(i);
             if (node.isLiteral()) {
+                if (i < start)
+                    continue;
                 CompletionResult result = completeLiteral(node.requireLiteralNode());
                 if (result == CompletionResult.HALT)
                     break;
@@ -63,10 +118,19 @@ final class SingleCommandCompleter<A extends CommandActor> {
                             .put(universalFlagName(parameter), parameter);
                     continue;
                 }
+                if (i < start)
+                    continue;
                 CompletionResult result = completeParameter(parameter);
                 if (result == CompletionResult.HALT)
                     break;
+                parsed.add(parameter);
+                values.add(context.getResolvedArgumentOrNull(parameter));
             }
+            // only remember nodes whose input has been terminated by a space,
+            // as the input that follows cannot change how they were parsed.
+            int position = input.position();
+            if (position > 0 && input.peekOffset(-1) == ' ')
+                checkpoint = new Checkpoint<>(i + 1, position, parsed, values);
         }
         if (!command.containsFlags() || remainingFlags == null)
             return;
@@ -76,19 +140,18 @@ final class SingleCommandCompleter<A extends CommandActor> {
     private CompletionResult completeParameter(@NotNull ParameterNode<A, Object> parameter) {
         rememberPosition();
         if (parameter.isSwitch()) {
-            context.addResolvedArgument(parameter.name(), true);
+            context.addResolvedArgument(parameter, true);
             return CompletionResult.CONTINUE;
         }
         try {
             Object value = parameter.parse(input, context);
-            context.addResolvedArgument(parameter.name(), value);
+            context.addResolvedArgument(parameter, value);
             int positionAfterParsing = input.position();
             String consumed = restorePosition();
-            Collection<String> parameterSuggestions = parameter.complete(context);
             input.setPosition(positionAfterParsing); // restore so that we can move forward
 
             if (input.hasFinished()) {
-                filterSuggestions(consumed, parameterSuggestions);
+                suggest(parameter, consumed);
                 return CompletionResult.HALT;
             }
             if (input.peek() == ' ')
@@ -96,7 +159,7 @@ final class SingleCommandCompleter<A extends CommandActor> {
             return CompletionResult.CONTINUE;
         } catch (Throwable t) {
             String consumed = restorePosition();
-            filterSuggestions(consumed, parameter.complete(context));
+            suggest(parameter, consumed);
             return CompletionResult.HALT;
         }
     }
@@ -123,8 +186,7 @@ final class SingleCommandCompleter<A extends CommandActor> {
                 if (input.hasFinished())
                     return;
                 if (input.remaining() == 1 && input.peek() == ' ') {
-                    Collection<String> parameterSuggestions = targetFlag.complete(context);
-                    suggestions.addAll(parameterSuggestions);
+                    suggest(targetFlag, "");
                     return;
                 }
                 input.skipWhitespace();
@@ -145,7 +207,7 @@ final class SingleCommandCompleter<A extends CommandActor> {
                     if (targetFlag == null)
                         continue;
                     if (targetFlag.isSwitch()) {
-                        context.addResolvedArgument(targetFlag.name(), true);
+                        context.addResolvedArgument(targetFlag, true);
                     }
                     if (input.hasFinished()) {
                         if (targetFlag.isFlag())
@@ -161,8 +223,7 @@ final class SingleCommandCompleter<A extends CommandActor> {
                     if (targetFlag.isSwitch())
                         continue;
                     if (input.remaining() == 1 && input.peek() == ' ') {
-                        Collection<String> parameterSuggestions = targetFlag.complete(context);
-                        suggestions.addAll(parameterSuggestions);
+                        suggest(targetFlag, "");
                         return;
                     }
                     if (input.hasRemaining() && input.peek() == ' ')
@@ -219,12 +280,27 @@ final class SingleCommandCompleter<A extends CommandActor> {
         return CompletionResult.HALT;
     }
 
-    private void filterSuggestions(String consumed, @NotNull Collection<String> parameterSuggestions) {
-        for (String parameterSuggestion : parameterSuggestions) {
-            if (parameterSuggestion.toLowerCase().startsWith(consumed.toLowerCase())) {
-                suggestions.add(getRemainingContent(parameterSuggestion, consumed));
-            }
+    /**
+     * Adds the suggestions of the given parameter that match the consumed
+     * input. If completing asynchronously, the suggestions of asynchronous
+     * providers are added to {@link #pending()} instead.
+     */
+    @SuppressWarnings("unchecked")
+    private void suggest(@NotNull ParameterNode<A, Object> parameter, @NotNull String consumed) {
+        SuggestionProvider<A> provider = parameter.suggestions();
+        if (pending != null && provider instanceof AsyncSuggestionProvider) {
+            pending.add(((AsyncSuggestionProvider<A>) provider).getSuggestionsAsync(context).thenApply(values -> {
+                List<String> filtered = new ArrayList<>(Math.min(values.size(), limit));
+                new SuggestionSink(consumed, limit, filtered, true).acceptAll(values);
+                return filtered;
+            }));
+            return;
         }
+        SuggestionSink sink = new SuggestionSink(consumed, limit, suggestions, true);
+        if (provider instanceof StreamingSuggestionProvider)
+            ((StreamingSuggestionProvider<A>) provider).suggest(context, sink);
+        else
+            sink.acceptAll(parameter.complete(context));
     }
 
     private String universalFlagName(@NotNull ParameterNode<A, Object> parameter) {
@@ -239,6 +315,27 @@ final class SingleCommandCompleter<A extends CommandActor> {
         return suggestions;
     }
 
+    /**
+     * Returns the suggestions of asynchronous providers that are yet
+     * to complete. This is always empty if completing synchronously.
+     *
+     * @return The pending suggestions
+     */
+    public @NotNull List<CompletableFuture<List<String>>> pending() {
+        return pending == null ? Collections.emptyList() : pending;
+    }
+
+    /**
+     * Returns the deepest checkpoint that was reached while completing,
+     * if any. This can be used to resume completion for inputs that
+     * extend the current one.
+     *
+     * @return The checkpoint
+     */
+    public @Nullable Checkpoint<A> checkpoint() {
+        return checkpoint;
+    }
+
     /**
      * Represents the result of the completion of a {@link CommandNode}
      */
@@ -269,15 +366,4 @@ final class SingleCommandCompleter<A extends CommandActor> {
         CONTINUE
     }
 
-    private static String getRemainingContent(String suggestion, String consumed) {
-        // Find the index where they match until
-        int matchIndex = consumed.length();
-
-        // Find the first space after the matching part
-        int spaceIndex = suggestion.lastIndexOf(' ', matchIndex - 1);
-
-        // Return the content after the first space
-        return suggestion.substring(spaceIndex + 1);
-    }
-
 }
@@ -24,13 +24,20 @@
 package revxrsal.commands.autocomplete;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.autocomplete.CompletionSessions.Checkpoint;
+import revxrsal.commands.autocomplete.CompletionSessions.Session;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.CommandRegistry;
+import revxrsal.commands.node.DispatcherSettings;
+import revxrsal.commands.node.parser.BaseCommandRegistry;
 import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A basic implementation of {@link AutoCompleter} that respects secret
@@ -43,9 +50,14 @@ import java.util.*;
 final class StandardAutoCompleter<A extends CommandActor> implements AutoCompleter<A> {
 
     private final Lamp<A> lamp;
+    private final @Nullable CompletionSessions<A> sessions;
 
     public StandardAutoCompleter(Lamp<A> lamp) {
         this.lamp = lamp;
+        DispatcherSettings<A> settings = lamp.dispatcherSettings();
+        this.sessions = settings.maximumCompletionSessions() > 0
+                ? new CompletionSessions<>(settings.maximumCompletionSessions(), settings.completionSessionExpiry())
+                : null;
     }
 
     @Override
@@ -55,27 +67,129 @@ final class StandardAutoCompleter<A extends CommandActor> implements AutoComplet
 
     @Override
     public @NotNull List<String> complete(@NotNull A actor, @NotNull StringStream input) {
-        Set<String> suggestions = new LinkedHashSet<>();
         if (input.isEmpty())
             return Collections.emptyList();
-        String firstWord = input.peekUnquotedString();
+        return collect(completeAll(actor, input, false), lamp.dispatcherSettings().maximumSuggestions());
+    }
 
-        for (ExecutableCommand<A> possible : lamp.registry().commands()) {
-            if (possible.isSecret())
-                continue;
-            if (!possible.firstNode().name().startsWith(firstWord))
-                continue;
+    @Override
+    public @NotNull CompletableFuture<List<String>> completeAsync(@NotNull A actor, @NotNull StringStream input) {
+        if (input.isEmpty())
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        List<SingleCommandCompleter<A>> completers = completeAll(actor, input, true);
+        int limit = lamp.dispatcherSettings().maximumSuggestions();
+        List<CompletableFuture<List<String>>> pending = new ArrayList<>();
+        for (SingleCommandCompleter<A> completer : completers)
+            pending.addAll(completer.pending());
+        if (pending.isEmpty())
+            return CompletableFuture.completedFuture(collect(completers, limit));
+        CompletableFuture<Void> all = CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]));
+        return CompletionDeadlines.within(all, lamp.dispatcherSettings().completionTimeout(), null)
+                .thenApply(v -> collect(completers, limit));
+    }
+
+    /**
+     * Runs a {@link SingleCommandCompleter} over each command that may
+     * be completed by the given input
+     */
+    private @NotNull List<SingleCommandCompleter<A>> completeAll(
+            @NotNull A actor,
+            @NotNull StringStream input,
+            boolean async
+    ) {
+        String firstWord = input.peekUnquotedString();
+        List<SingleCommandCompleter<A>> completers = new ArrayList<>();
+        // synchronous completers are done with the input as soon as they
+        // complete, so they can share a single stream that is rewound in
+        // between. asynchronous providers may still read their context
+        // input afterwards, so those get their own copies.
+        MutableStringStream shared = async ? null : input.toMutableCopy();
+        int mark = shared == null ? 0 : shared.mark();
+        if (sessions == null) {
+            for (ExecutableCommand<A> possible : candidates(firstWord)) {
+                if (!possible.permission().isExecutableBy(actor))
+                    continue;
+                SingleCommandCompleter<A> commandCompleter = new SingleCommandCompleter<>(actor, possible, working(input, shared, mark), null, async);
+                commandCompleter.complete();
+                completers.add(commandCompleter);
+            }
+            return completers;
+        }
+        UUID uniqueId = actor.uniqueId();
+        Session<A> session = sessions.get(uniqueId);
+        Map<ExecutableCommand<A>, Checkpoint<A>> checkpoints = new HashMap<>();
+        for (ExecutableCommand<A> possible : candidates(firstWord)) {
             if (!possible.permission().isExecutableBy(actor))
                 continue;
-            suggestions.addAll(complete(possible, input.toMutableCopy(), actor));
+            Checkpoint<A> resumeFrom = CompletionSessions.checkpointFor(session, possible, input.source());
+            SingleCommandCompleter<A> commandCompleter = new SingleCommandCompleter<>(actor, possible, working(input, shared, mark), resumeFrom, async);
+            commandCompleter.complete();
+            completers.add(commandCompleter);
+            Checkpoint<A> checkpoint = commandCompleter.checkpoint();
+            if (checkpoint != null)
+                checkpoints.put(possible, checkpoint);
         }
+        sessions.put(uniqueId, new Session<>(input.source(), checkpoints));
+        return completers;
+    }
 
+    /**
+     * Returns the stream a completer should work on: the shared stream rewound
+     * to its mark, or a fresh copy of the input if there is none.
+     */
+    private static @NotNull MutableStringStream working(
+            @NotNull StringStream input,
+            @Nullable MutableStringStream shared,
+            int mark
+    ) {
+        if (shared == null)
+            return input.toMutableCopy();
+        shared.reset(mark);
+        return shared;
+    }
+
+    /**
+     * Collects up to {@code limit} suggestions of the given completers, including
+     * the asynchronous suggestions that have completed successfully
+     */
+    private static <A extends CommandActor> @NotNull List<String> collect(
+            @NotNull List<SingleCommandCompleter<A>> completers,
+            int limit
+    ) {
+        Set<String> suggestions = new LinkedHashSet<>();
+        for (SingleCommandCompleter<A> completer : completers) {
+            if (!addAll(suggestions, completer.suggestions(), limit))
+                break;
+            for (CompletableFuture<List<String>> future : completer.pending()) {
+                if (future.isDone() && !future.isCompletedExceptionally() && !addAll(suggestions, future.join(), limit))
+                    break;
+            }
+        }
         return new ArrayList<>(suggestions);
     }
 
-    private List<String> complete(ExecutableCommand<A> possible, MutableStringStream input, A actor) {
-        SingleCommandCompleter<A> commandCompleter = new SingleCommandCompleter<>(actor, possible, input);
-        commandCompleter.complete();
-        return commandCompleter.suggestions();
+    private static boolean addAll(@NotNull Set<String> suggestions, @NotNull List<String> values, int limit) {
+        for (String value : values) {
+            if (suggestions.size() >= limit)
+                return false;
+            suggestions.add(value);
+        }
+        return suggestions.size() < limit;
+    }
+
+    /**
+     * Returns the non-secret commands whose root literal starts with
+     * the given word
+     */
+    private List<ExecutableCommand<A>> candidates(@NotNull String firstWord) {
+        CommandRegistry<A> registry = lamp.registry();
+        if (registry instanceof BaseCommandRegistry)
+            return ((BaseCommandRegistry<A>) registry).completionCandidates(firstWord);
+        List<ExecutableCommand<A>> candidates = new ArrayList<>();
+        for (ExecutableCommand<A> possible : registry.commands()) {
+            if (!possible.isSecret() && possible.firstNode().name().startsWith(firstWord))
+                candidates.add(possible);
+        }
+        return candidates;
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.node.ExecutionContext;
+
+import java.util.*;
+
+/**
+ * A {@link SuggestionProvider} that provides a fixed set of suggestions, such
+ * as the constants of an enum or the values of {@link revxrsal.commands.annotation.Suggest @Suggest}.
+ * <p>
+ * The suggestions are indexed by their lowercase form when created, so that
+ * finding the suggestions that start with a prefix takes a binary search
+ * rather than testing every suggestion. Matching suggestions are returned in
+ * the order they were given in.
+ * <p>
+ * Create using {@link SuggestionProvider#of(String...)}
+ *
+ * @param <A> The actor type
+ */
+public final class StaticSuggestionProvider<A extends CommandActor> implements StreamingSuggestionProvider<A> {
+
+    /**
+     * The suggestions, in their original order
+     */
+    private final List<String> suggestions;
+
+    /**
+     * The lowercase suggestions, sorted
+     */
+    private final String[] keys;
+
+    /**
+     * The index of each key in {@link #suggestions}
+     */
+    private final int[] indices;
+
+    StaticSuggestionProvider(@NotNull Collection<String> suggestions) {
+        this.suggestions = Collections.unmodifiableList(new ArrayList<>(suggestions));
+        int size = this.suggestions.size();
+        Integer[] order = new Integer[size];
+        String[] lowercase = new String[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            lowercase[i] = this.suggestions.get(i).toLowerCase(Locale.ROOT);
+        }
+        Arrays.sort(order, Comparator.comparing(i -> lowercase[i]));
+        this.keys = new String[size];
+        this.indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = lowercase[order[i]];
+            indices[i] = order[i];
+        }
+    }
+
+    /**
+     * Returns all the suggestions, in their original order
+     *
+     * @return The suggestions
+     */
+    public @NotNull List<String> suggestions() {
+        return suggestions;
+    }
+
+    /**
+     * Returns the suggestions that start with the given prefix, ignoring
+     * case. The suggestions are returned in their original order.
+     *
+     * @param prefix The prefix to match
+     * @return The matching suggestions
+     */
+    public @NotNull List<String> startingWith(@NotNull String prefix) {
+        if (prefix.isEmpty())
+            return suggestions;
+        String key = prefix.toLowerCase(Locale.ROOT);
+        int from = lowerBound(key);
+        int to = upperBound(key, from);
+        if (from == to)
+            return Collections.emptyList();
+        if (to - from == keys.length)
+            return suggestions;
+        int[] matching = Arrays.copyOfRange(indices, from, to);
+        Arrays.sort(matching);
+        List<String> result = new ArrayList<>(matching.length);
+        for (int index : matching)
+            result.add(suggestions.get(index));
+        return result;
+    }
+
+    @Override
+    public @NotNull Collection<String> getSuggestions(@NotNull ExecutionContext<A> context) {
+        return suggestions;
+    }
+
+    @Override
+    public void suggest(@NotNull ExecutionContext<A> context, @NotNull SuggestionSink sink) {
+        sink.acceptAll(startingWith(sink.prefix()));
+    }
+
+    /**
+     * Returns the index of the first key that is greater than or
+     * equal to the given key
+     */
+    private int lowerBound(@NotNull String key) {
+        int low = 0, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first key after {@code from} that does not
+     * start with the given prefix. As keys are sorted, all keys that start
+     * with the prefix are adjacent.
+     */
+    private int upperBound(@NotNull String prefix, int from) {
+        int low = from, high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix))
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return suggestions.equals(((StaticSuggestionProvider<?>) o).suggestions);
+    }
+
+    @Override
+    public int hashCode() {
+        return suggestions.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "StaticSuggestionProvider(suggestions=" + suggestions + ')';
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.node.ExecutionContext;
+
+import java.util.Collection;
+
+/**
+ * A {@link SuggestionProvider} that streams its suggestions into a
+ * {@link SuggestionSink}, rather than returning them all at once. This is
+ * useful for providers with a large number of suggestions, as they can stop
+ * as soon as the sink is full.
+ * <p>
+ * For example:
+ * <pre>{@code
+ * StreamingSuggestionProvider<A> players = (context, sink) -> {
+ *     for (Player player : Bukkit.getOnlinePlayers()) {
+ *         if (!sink.accept(player.getName()))
+ *             return;
+ *     }
+ * };
+ * }</pre>
+ *
+ * @param <A> The actor type
+ */
+@FunctionalInterface
+public interface StreamingSuggestionProvider<A extends CommandActor> extends SuggestionProvider<A> {
+
+    /**
+     * Streams the suggestions into the given sink. Implementations should
+     * stop once {@link SuggestionSink#accept(String)} returns {@code false}.
+     *
+     * @param context The execution context
+     * @param sink    The sink to stream into
+     */
+    void suggest(@NotNull ExecutionContext<A> context, @NotNull SuggestionSink sink);
+
+    @Override
+    default @NotNull Collection<String> getSuggestions(@NotNull ExecutionContext<A> context) {
+        SuggestionSink sink = SuggestionSink.create("", Integer.MAX_VALUE);
+        suggest(context, sink);
+        return sink.suggestions();
+    }
+}
@@ -27,6 +27,8 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.annotation.CachedSuggestions;
+import revxrsal.commands.annotation.CachedSuggestions.Scope;
 import revxrsal.commands.annotation.list.AnnotationList;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.node.ExecutionContext;
@@ -36,6 +38,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static revxrsal.commands.util.Classes.checkRetention;
@@ -75,7 +78,8 @@ public interface SuggestionProvider<A extends CommandActor> extends BaseSuggesti
     }
 
     /**
-     * Returns a {@link SuggestionProvider} that provides a static list of suggestions
+     * Returns a {@link SuggestionProvider} that provides a static list of suggestions.
+     * The suggestions are indexed for fast prefix matching, see {@link StaticSuggestionProvider}.
      *
      * @param suggestions Suggestions to provide
      * @param <A>         The actor type
@@ -84,12 +88,15 @@ public interface SuggestionProvider<A extends CommandActor> extends BaseSuggesti
     static <A extends CommandActor> @NotNull SuggestionProvider<A> of(@NotNull String... suggestions) {
         if (suggestions == null || suggestions.length == 0)
             return empty();
-        List<String> list = Arrays.asList(suggestions);
-        return (context) -> list;
+        return new StaticSuggestionProvider<>(Arrays.asList(suggestions));
     }
 
     /**
-     * Returns a {@link SuggestionProvider} that provides a static list of suggestions
+     * Returns a {@link SuggestionProvider} that provides the given list of suggestions.
+     * <p>
+     * The list is not copied, so later changes to it are reflected in the
+     * suggestions. As such, it is not indexed for prefix matching. Use
+     * {@link #of(String...)} for suggestions that never change.
      *
      * @param suggestions Suggestions to provide
      * @param <A>         The actor type
@@ -112,6 +119,37 @@ public interface SuggestionProvider<A extends CommandActor> extends BaseSuggesti
     @NotNull
     Collection<String> getSuggestions(@NotNull ExecutionContext<A> context);
 
+    /**
+     * Returns a {@link SuggestionProvider} that caches the suggestions of this
+     * provider for the given time. The suggestions are shared by all actors.
+     *
+     * @param ttl  The time for which suggestions are cached
+     * @param unit The unit of {@code ttl}
+     * @return The caching suggestion provider
+     * @see CachedSuggestions
+     */
+    @Contract("_, _ -> new")
+    default @NotNull CachingSuggestionProvider<A> cached(long ttl, @NotNull TimeUnit unit) {
+        return cached(ttl, unit, Scope.GLOBAL, 1);
+    }
+
+    /**
+     * Returns a {@link SuggestionProvider} that caches the suggestions of this
+     * provider for the given time.
+     *
+     * @param ttl         The time for which suggestions are cached
+     * @param unit        The unit of {@code ttl}
+     * @param scope       Whether suggestions are shared by all actors, or cached
+     *                    for each actor individually
+     * @param maximumSize The maximum number of entries kept in the cache
+     * @return The caching suggestion provider
+     * @see CachedSuggestions
+     */
+    @Contract("_, _, _, _ -> new")
+    default @NotNull CachingSuggestionProvider<A> cached(long ttl, @NotNull TimeUnit unit, @NotNull Scope scope, int maximumSize) {
+        return new CachingSuggestionProvider<>(this, ttl, unit, scope, maximumSize);
+    }
+
     /**
      * Represents a factory that creates {@link SuggestionProvider}s dynamically. This
      * can access the parameter type, generics and annotations.
@@ -23,9 +23,11 @@
  */
 package revxrsal.commands.autocomplete;
 
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.annotation.CachedSuggestions;
 import revxrsal.commands.annotation.list.AnnotationList;
 import revxrsal.commands.autocomplete.SuggestionProvider.Factory;
 import revxrsal.commands.command.CommandActor;
@@ -128,6 +130,30 @@ public final class SuggestionProviders<A extends CommandActor> {
         return SuggestionProvider.empty();
     }
 
+    /**
+     * Wraps the given provider in a {@link CachingSuggestionProvider} if the
+     * annotations contain {@link CachedSuggestions @CachedSuggestions}.
+     * <p>
+     * This is applied to the final suggestions of each parameter, regardless
+     * of whether they come from a factory or from
+     * {@link revxrsal.commands.parameter.ParameterType#defaultSuggestions()}.
+     *
+     * @param provider    The provider to wrap
+     * @param annotations The annotations of the parameter
+     * @param <A>         The actor type
+     * @return The cached provider, or {@code provider} if it should not be cached
+     */
+    @ApiStatus.Internal
+    public static <A extends CommandActor> @NotNull SuggestionProvider<A> cacheIfNeeded(
+            @NotNull SuggestionProvider<A> provider,
+            @NotNull AnnotationList annotations
+    ) {
+        CachedSuggestions cached = annotations.get(CachedSuggestions.class);
+        if (cached == null || provider instanceof CachingSuggestionProvider || provider == SuggestionProvider.empty())
+            return provider;
+        return provider.cached(cached.value(), cached.unit(), cached.scope(), cached.maximumSize());
+    }
+
     /**
      * Returns the first {@link SuggestionProvider} that comes after the {@code skipPast}
      * factory. This is useful for adding behavior on top of existing providers.
@@ -0,0 +1,184 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.autocomplete;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+import revxrsal.commands.node.DispatcherSettings;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A bounded collector of suggestions. Suggestions that do not start with
+ * the {@link #prefix()} (ignoring case) are dropped, and once the
+ * {@link #limit()} is reached, no more suggestions are accepted.
+ * <p>
+ * This allows {@link StreamingSuggestionProvider StreamingSuggestionProviders}
+ * to stop generating suggestions as soon as enough were collected, rather
+ * than building the full list only for it to be truncated.
+ *
+ * @see StreamingSuggestionProvider
+ * @see DispatcherSettings#maximumSuggestions()
+ */
+public final class SuggestionSink {
+
+    private final String prefix;
+    private final int limit;
+    private final Collection<String> suggestions;
+
+    /**
+     * Whether to strip the words before the last space of the prefix
+     * from accepted suggestions. This is used when completing inputs
+     * that contain spaces, as clients only replace the last word.
+     */
+    private final boolean trimToLastWord;
+
+    private int accepted;
+
+    SuggestionSink(@NotNull String prefix, int limit, @NotNull Collection<String> suggestions, boolean trimToLastWord) {
+        this.prefix = prefix;
+        this.limit = limit;
+        this.suggestions = suggestions;
+        this.trimToLastWord = trimToLastWord && prefix.indexOf(' ') != -1;
+    }
+
+    /**
+     * Creates a new {@link SuggestionSink} that collects into a list
+     *
+     * @param prefix The prefix that suggestions must start with. This is
+     *               matched ignoring case.
+     * @param limit  The maximum number of suggestions to accept
+     * @return The newly created sink
+     */
+    public static @NotNull SuggestionSink create(@NotNull String prefix, @Range(from = 1, to = Integer.MAX_VALUE) int limit) {
+        if (limit < 1)
+            throw new IllegalArgumentException("Suggestion limit must be at least 1!");
+        return new SuggestionSink(prefix, limit, new ArrayList<>(Math.min(limit, 16)), false);
+    }
+
+    /**
+     * Offers the given suggestion to this sink. The suggestion is
+     * dropped if it does not start with the prefix.
+     *
+     * @param suggestion The suggestion to offer
+     * @return {@code true} if the sink accepts more suggestions, {@code false}
+     * if the limit has been reached and the caller should stop.
+     */
+    public boolean accept(@NotNull String suggestion) {
+        if (accepted >= limit)
+            return false;
+        if (matches(suggestion)) {
+            suggestions.add(trimToLastWord ? suggestion.substring(prefix.lastIndexOf(' ') + 1) : suggestion);
+            accepted++;
+        }
+        return accepted < limit;
+    }
+
+    /**
+     * Offers all the given suggestions to this sink, stopping as soon
+     * as the limit is reached.
+     *
+     * @param suggestions The suggestions to offer
+     * @return {@code true} if the sink accepts more suggestions, {@code false}
+     * if the limit has been reached
+     */
+    public boolean acceptAll(@NotNull Iterable<String> suggestions) {
+        for (String suggestion : suggestions) {
+            if (!accept(suggestion))
+                return false;
+        }
+        return accepted < limit;
+    }
+
+    /**
+     * Tests whether the given candidate starts with the prefix of this
+     * sink, ignoring case. This does not allocate, and can be used by
+     * providers to skip building candidates that would be dropped anyway.
+     *
+     * @param candidate The candidate to test
+     * @return whether the candidate matches
+     */
+    public boolean matches(@NotNull CharSequence candidate) {
+        int length = prefix.length();
+        if (candidate.length() < length)
+            return false;
+        if (candidate instanceof String)
+            return ((String) candidate).regionMatches(true, 0, prefix, 0, length);
+        for (int i = 0; i < length; i++) {
+            char a = candidate.charAt(i), b = prefix.charAt(i);
+            if (a != b && Character.toLowerCase(a) != Character.toLowerCase(b)
+                    && Character.toUpperCase(a) != Character.toUpperCase(b))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Tests whether this sink has reached its limit
+     *
+     * @return whether the sink is full
+     */
+    public boolean isFull() {
+        return accepted >= limit;
+    }
+
+    /**
+     * Returns the prefix that suggestions must start with
+     *
+     * @return The prefix
+     */
+    public @NotNull String prefix() {
+        return prefix;
+    }
+
+    /**
+     * Returns the maximum number of suggestions this sink accepts
+     *
+     * @return The limit
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of suggestions accepted so far
+     *
+     * @return The number of accepted suggestions
+     */
+    public int size() {
+        return accepted;
+    }
+
+    /**
+     * Returns the accepted suggestions. This is only meaningful for
+     * sinks created with {@link #create(String, int)}.
+     *
+     * @return The accepted suggestions
+     */
+    public @NotNull Collection<String> suggestions() {
+        return suggestions;
+    }
+}
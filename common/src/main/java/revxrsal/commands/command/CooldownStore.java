@@ -0,0 +1,194 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.command;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stores the active cooldowns of actors, keyed by the actor's unique ID
+ * and the command ID.
+ * <p>
+ * Cooldowns are not removed by scheduled tasks. Instead, expired cooldowns
+ * are dropped when they are read, and all the cooldowns are swept
+ * periodically when new ones are added. Actors that have no active cooldowns
+ * are removed, so the memory used is bounded by the number of active cooldowns.
+ * <p>
+ * This class is thread-safe.
+ */
+final class CooldownStore {
+
+    /**
+     * The minimum time between two sweeps of all the cooldowns
+     */
+    private static final long SWEEP_INTERVAL = TimeUnit.SECONDS.toMillis(30);
+
+    private final Map<UUID, Cooldowns> cooldowns = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong();
+
+    /**
+     * Returns the time in which the cooldown of the given actor and command
+     * has started, or {@code -1} if there is no active cooldown.
+     *
+     * @param actor   The actor's unique ID
+     * @param command The command ID
+     * @param now     The current time, in milliseconds
+     * @return The start time, in milliseconds, or {@code -1}.
+     */
+    public long startedAt(@NotNull UUID actor, int command, long now) {
+        Cooldowns actorCooldowns = cooldowns.get(actor);
+        if (actorCooldowns == null)
+            return -1;
+        long startedAt = actorCooldowns.startedAt(command, now);
+        if (startedAt == Cooldowns.EXPIRED) {
+            cooldowns.computeIfPresent(actor, (k, v) -> v.removeExpired(now) ? null : v);
+            return -1;
+        }
+        return startedAt;
+    }
+
+    /**
+     * Puts the given actor on cooldown for the given command
+     *
+     * @param actor    The actor's unique ID
+     * @param command  The command ID
+     * @param now      The current time, in milliseconds
+     * @param duration The duration of the cooldown, in milliseconds
+     */
+    public void put(@NotNull UUID actor, int command, long now, long duration) {
+        long expiresAt = duration >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + duration;
+        cooldowns.compute(actor, (k, v) -> {
+            if (v == null)
+                v = new Cooldowns();
+            v.put(command, now, expiresAt);
+            return v;
+        });
+        sweepIfDue(now);
+    }
+
+    /**
+     * Removes the cooldown of the given actor on the given command
+     *
+     * @param actor   The actor's unique ID
+     * @param command The command ID
+     */
+    public void remove(@NotNull UUID actor, int command) {
+        cooldowns.computeIfPresent(actor, (k, v) -> v.remove(command) ? null : v);
+    }
+
+    private void sweepIfDue(long now) {
+        long next = nextSweep.get();
+        if (now < next || !nextSweep.compareAndSet(next, now + SWEEP_INTERVAL))
+            return;
+        for (UUID actor : cooldowns.keySet())
+            cooldowns.computeIfPresent(actor, (k, v) -> v.removeExpired(now) ? null : v);
+    }
+
+    /**
+     * The cooldowns of a single actor, stored in parallel arrays. Actors
+     * usually have very few active cooldowns, so these are scanned linearly.
+     * <p>
+     * Mutations only happen inside {@link ConcurrentHashMap#compute(Object, java.util.function.BiFunction)}
+     * and its variants, so that empty instances can be removed atomically.
+     */
+    private static final class Cooldowns {
+
+        private static final long EXPIRED = -2;
+
+        private int[] commands = new int[2];
+        private long[] startTimes = new long[2];
+        private long[] expiryTimes = new long[2];
+        private int size;
+
+        synchronized long startedAt(int command, long now) {
+            int index = indexOf(command);
+            if (index == -1)
+                return -1;
+            if (expiryTimes[index] <= now)
+                return EXPIRED;
+            return startTimes[index];
+        }
+
+        synchronized void put(int command, long startTime, long expiryTime) {
+            int index = indexOf(command);
+            if (index == -1) {
+                if (size == commands.length) {
+                    commands = Arrays.copyOf(commands, size * 2);
+                    startTimes = Arrays.copyOf(startTimes, size * 2);
+                    expiryTimes = Arrays.copyOf(expiryTimes, size * 2);
+                }
+                index = size++;
+                commands[index] = command;
+            }
+            startTimes[index] = startTime;
+            expiryTimes[index] = expiryTime;
+        }
+
+        /**
+         * Removes the cooldown of the given command
+         *
+         * @return Whether this is now empty
+         */
+        synchronized boolean remove(int command) {
+            int index = indexOf(command);
+            if (index != -1)
+                removeAt(index);
+            return size == 0;
+        }
+
+        /**
+         * Removes all the cooldowns that have expired
+         *
+         * @return Whether this is now empty
+         */
+        synchronized boolean removeExpired(long now) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (expiryTimes[i] <= now)
+                    removeAt(i);
+            }
+            return size == 0;
+        }
+
+        private int indexOf(int command) {
+            for (int i = 0; i < size; i++) {
+                if (commands[i] == command)
+                    return i;
+            }
+            return -1;
+        }
+
+        private void removeAt(int index) {
+            int last = --size;
+            commands[index] = commands[last];
+            startTimes[index] = startTimes[last];
+            expiryTimes[index] = expiryTimes[last];
+        }
+    }
+}
@@ -39,11 +39,7 @@ import revxrsal.commands.util.Classes;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 @ApiStatus.Internal
@@ -52,32 +48,29 @@ public final class ThreadExecutorCooldownCondition implements
         PostCommandExecutedHook<CommandActor>,
         ContextParameter.Factory<CommandActor> {
 
-    private static final ScheduledExecutorService COOLDOWN_POOL = Executors.newSingleThreadScheduledExecutor();
-
-    private final Map<UUID, Map<Integer, Long>> cooldowns = new ConcurrentHashMap<>();
+    private final CooldownStore cooldowns = new CooldownStore();
 
     @Override
     public void onPostExecuted(@NotNull ExecutableCommand<CommandActor> command, @NotNull ExecutionContext<CommandActor> context) {
         Cooldown cooldown = command.annotations().get(Cooldown.class);
         if (cooldown == null || cooldown.value() == 0) return;
-        Map<Integer, Long> spans = cooldowns.computeIfAbsent(context.actor().uniqueId(), u -> new ConcurrentHashMap<>());
-        spans.put(command.hashCode(), System.currentTimeMillis());
-
-        COOLDOWN_POOL.schedule(() -> spans.remove(command.hashCode()), cooldown.value(), cooldown.unit());
+        cooldowns.put(
+                context.actor().uniqueId(),
+                command.hashCode(),
+                System.currentTimeMillis(),
+                cooldown.unit().toMillis(cooldown.value())
+        );
     }
 
     @Override public void test(@NotNull ExecutionContext<CommandActor> context) {
         @Nullable Cooldown cooldown = context.command().annotations().get(Cooldown.class);
         if (cooldown == null || cooldown.value() == 0)
             return;
-        UUID uuid = context.actor().uniqueId();
-        @Nullable Map<Integer, Long> spans = cooldowns.get(uuid);
-        if (spans == null)
-            return;
-        @Nullable Long created = spans.get(context.command().hashCode());
-        if (created == null)
+        long now = System.currentTimeMillis();
+        long created = cooldowns.startedAt(context.actor().uniqueId(), context.command().hashCode(), now);
+        if (created == -1)
             return;
-        long passed = System.currentTimeMillis() - created;
+        long passed = now - created;
         long left = cooldown.unit().toMillis(cooldown.value()) - passed;
         if (left > 0 && left < 1000)
             left = 1000L; // for formatting
@@ -123,21 +116,15 @@ public final class ThreadExecutorCooldownCondition implements
         }
 
         @Override public boolean isOnCooldown() {
-            @Nullable Map<Integer, Long> spans = cooldowns.get(actor);
-            if (spans == null)
-                return false;
-            @Nullable Long created = spans.get(hashCode);
-            return created != null;
+            return cooldowns.startedAt(actor, hashCode, System.currentTimeMillis()) != -1;
         }
 
         @Override public long elapsedMillis() {
-            @Nullable Map<Integer, Long> spans = cooldowns.get(actor);
-            if (spans == null)
+            long now = System.currentTimeMillis();
+            long created = cooldowns.startedAt(actor, hashCode, now);
+            if (created == -1)
                 return 0L;
-            @Nullable Long created = spans.get(hashCode);
-            if (created == null)
-                return 0L;
-            return System.currentTimeMillis() - created;
+            return now - created;
         }
 
         @Override public void cooldown() {
@@ -169,17 +156,11 @@ public final class ThreadExecutorCooldownCondition implements
         }
 
         @Override public void removeCooldown() {
-            @Nullable Map<Integer, Long> spans = cooldowns.get(actor);
-            if (spans == null)
-                return;
-            spans.remove(hashCode);
+            cooldowns.remove(actor, hashCode);
         }
 
         @Override public void cooldown(@Range(from = 1, to = Long.MAX_VALUE) long duration, @NotNull TimeUnit unit) {
-            Map<Integer, Long> spans = cooldowns.computeIfAbsent(actor, u -> new ConcurrentHashMap<>());
-            spans.put(hashCode, System.currentTimeMillis());
-
-            COOLDOWN_POOL.schedule(() -> spans.remove(hashCode), duration, unit);
+            cooldowns.put(actor, hashCode, System.currentTimeMillis(), unit.toMillis(duration));
         }
 
         @Override public long remainingTimeMillis() {
@@ -116,6 +116,8 @@ public class DefaultExceptionHandler<A extends CommandActor> extends RuntimeExce
     @HandleException
     public void onUnknownCommand(@NotNull UnknownCommandException e, @NotNull A actor) {
         actor.error("Unknown command: " + e.input());
+        if (!e.suggestions().isEmpty())
+            actor.error("Did you mean: " + String.join(", ", e.suggestions()) + "?");
     }
 
     @HandleException
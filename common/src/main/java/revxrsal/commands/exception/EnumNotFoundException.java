@@ -37,6 +37,16 @@ public class EnumNotFoundException extends InvalidValueException {
         this.enumType = enumType;
     }
 
+    /**
+     * Creates a new exception, optionally without capturing its stack trace
+     *
+     * @see StacklessExceptions
+     */
+    protected EnumNotFoundException(@NotNull String input, Class<? extends Enum> enumType, boolean writableStackTrace) {
+        super(input, writableStackTrace);
+        this.enumType = enumType;
+    }
+
     public Class<? extends Enum> enumType() {
         return enumType;
     }
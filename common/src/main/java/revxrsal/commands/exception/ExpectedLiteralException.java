@@ -40,6 +40,16 @@ public class ExpectedLiteralException extends InvalidValueException {
         this.node = node;
     }
 
+    /**
+     * Creates a new exception, optionally without capturing its stack trace
+     *
+     * @see StacklessExceptions
+     */
+    protected ExpectedLiteralException(@NotNull String input, @NotNull LiteralNode<CommandActor> node, boolean writableStackTrace) {
+        super(input, writableStackTrace);
+        this.node = node;
+    }
+
     /**
      * Returns the literal node that we were trying to match with
      *
@@ -43,6 +43,16 @@ public final class InputParseException extends RuntimeException {
         this.cause = cause;
     }
 
+    /**
+     * Creates a new exception, optionally without capturing its stack trace
+     *
+     * @see StacklessExceptions
+     */
+    InputParseException(@NotNull Cause cause, boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
+        this.cause = cause;
+    }
+
     /**
      * Returns the cause of the exception
      *
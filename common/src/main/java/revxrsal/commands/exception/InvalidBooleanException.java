@@ -33,4 +33,13 @@ public class InvalidBooleanException extends InvalidValueException {
     public InvalidBooleanException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Creates a new exception, optionally without capturing its stack trace
+     *
+     * @see StacklessExceptions
+     */
+    protected InvalidBooleanException(@NotNull String input, boolean writableStackTrace) {
+        super(input, writableStackTrace);
+    }
 }
@@ -33,4 +33,13 @@ public class InvalidDecimalException extends InvalidNumberException {
     public InvalidDecimalException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Creates a new exception, optionally without capturing its stack trace
+     *
+     * @see StacklessExceptions
+     */
+    protected InvalidDecimalException(@NotNull String input, boolean writableStackTrace) {
+        super(input, writableStackTrace);
+    }
 }
@@ -33,4 +33,13 @@ public class InvalidIntegerException extends InvalidNumberException {
     public InvalidIntegerException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Creates a new exception, optionally without capturing its stack trace
+     *
+     * @see StacklessExceptions
+     */
+    protected InvalidIntegerException(@NotNull String input, boolean writableStackTrace) {
+        super(input, writableStackTrace);
+    }
 }
@@ -33,4 +33,13 @@ public abstract class InvalidNumberException extends InvalidValueException {
     public InvalidNumberException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Creates a new exception, optionally without capturing its stack trace
+     *
+     * @see StacklessExceptions
+     */
+    protected InvalidNumberException(@NotNull String input, boolean writableStackTrace) {
+        super(input, writableStackTrace);
+    }
 }
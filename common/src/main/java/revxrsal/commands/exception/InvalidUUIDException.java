@@ -33,4 +33,13 @@ public class InvalidUUIDException extends InvalidValueException {
     public InvalidUUIDException(@NotNull String input) {
         super(input);
     }
+
+    /**
+     * Creates a new exception, optionally without capturing its stack trace
+     *
+     * @see StacklessExceptions
+     */
+    protected InvalidUUIDException(@NotNull String input, boolean writableStackTrace) {
+        super(input, writableStackTrace);
+    }
 }
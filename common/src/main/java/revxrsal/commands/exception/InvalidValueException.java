@@ -42,6 +42,20 @@ public abstract class InvalidValueException extends RuntimeException {
         this.input = input;
     }
 
+    /**
+     * Creates a new exception, optionally without capturing its stack trace.
+     * The built-in parameter types throw these routinely while matching
+     * the input against different commands, so they skip the stack trace.
+     *
+     * @param input              The invalid input
+     * @param writableStackTrace Whether the stack trace should be captured
+     * @see StacklessExceptions
+     */
+    protected InvalidValueException(@NotNull String input, boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
+        this.input = input;
+    }
+
     /**
      * The invalid inputted value for the number
      *
@@ -42,6 +42,22 @@ public class MissingArgumentException extends RuntimeException {
         this.command = (ExecutableCommand<CommandActor>) command;
     }
 
+    /**
+     * Creates a new exception, optionally without capturing its stack trace
+     *
+     * @see StacklessExceptions
+     */
+    @SuppressWarnings("unchecked")
+    protected <A extends CommandActor> MissingArgumentException(
+            ParameterNode<A, ?> node,
+            ExecutableCommand<A> command,
+            boolean writableStackTrace
+    ) {
+        super(null, null, true, writableStackTrace);
+        this.node = (ParameterNode<CommandActor, Object>) node;
+        this.command = (ExecutableCommand<CommandActor>) command;
+    }
+
     public <A extends CommandActor> ParameterNode<A, Object> node() {
         //noinspection unchecked
         return (ParameterNode<A, Object>) node;
@@ -0,0 +1,89 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.exception;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.LiteralNode;
+import revxrsal.commands.node.ParameterNode;
+
+import static revxrsal.commands.util.Preconditions.cannotInstantiate;
+
+/**
+ * Creates the exceptions that the parser and the built-in parameter types
+ * throw when the input does not match a command. As these are routinely
+ * thrown while trying to match the input against different commands, they
+ * do not capture a stack trace.
+ * <p>
+ * The public constructors of these exceptions still capture a stack trace,
+ * as they may be used by other parameter types.
+ */
+@ApiStatus.Internal
+public final class StacklessExceptions {
+
+    private StacklessExceptions() {
+        cannotInstantiate(StacklessExceptions.class);
+    }
+
+    public static @NotNull InvalidIntegerException invalidInteger(@NotNull String input) {
+        return new InvalidIntegerException(input, false);
+    }
+
+    public static @NotNull InvalidDecimalException invalidDecimal(@NotNull String input) {
+        return new InvalidDecimalException(input, false);
+    }
+
+    public static @NotNull InvalidBooleanException invalidBoolean(@NotNull String input) {
+        return new InvalidBooleanException(input, false);
+    }
+
+    public static @NotNull InvalidUUIDException invalidUUID(@NotNull String input) {
+        return new InvalidUUIDException(input, false);
+    }
+
+    public static @NotNull EnumNotFoundException enumNotFound(@NotNull String input, @NotNull Class<? extends Enum> enumType) {
+        return new EnumNotFoundException(input, enumType, false);
+    }
+
+    public static @NotNull ExpectedLiteralException expectedLiteral(@NotNull String input, @NotNull LiteralNode<CommandActor> node) {
+        return new ExpectedLiteralException(input, node, false);
+    }
+
+    public static @NotNull InputParseException inputParse(@NotNull InputParseException.Cause cause) {
+        return new InputParseException(cause, false);
+    }
+
+    public static @NotNull UnknownParameterException unknownParameter(@NotNull String name, boolean shorthand) {
+        return new UnknownParameterException(name, shorthand, false);
+    }
+
+    public static <A extends CommandActor> @NotNull MissingArgumentException missingArgument(
+            @NotNull ParameterNode<A, ?> node,
+            @NotNull ExecutableCommand<A> command
+    ) {
+        return new MissingArgumentException(node, command, false);
+    }
+}
@@ -24,13 +24,46 @@
 package revxrsal.commands.exception;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import revxrsal.commands.node.CommandRegistry;
+
+import java.util.Collections;
+import java.util.List;
+
+import static revxrsal.commands.util.Collections.copyList;
 
 /**
  * Thrown when an invalid root command is inputted.
  */
 public class UnknownCommandException extends InvalidValueException {
 
+    /**
+     * The maximum number of suggestions Lamp attaches to this exception
+     */
+    public static final int MAXIMUM_SUGGESTIONS = 3;
+
+    /**
+     * The paths of the commands that are closest to the input
+     */
+    private final @NotNull @Unmodifiable List<String> suggestions;
+
     public UnknownCommandException(@NotNull String input) {
+        this(input, Collections.emptyList());
+    }
+
+    public UnknownCommandException(@NotNull String input, @NotNull List<String> suggestions) {
         super(input);
+        this.suggestions = copyList(suggestions);
+    }
+
+    /**
+     * Returns the paths of the commands that are closest to the input,
+     * closest first. These may be empty if no command is close enough.
+     *
+     * @return The suggested paths
+     * @see CommandRegistry#closestPaths(String, int)
+     */
+    public @NotNull @Unmodifiable List<String> suggestions() {
+        return suggestions;
     }
 }
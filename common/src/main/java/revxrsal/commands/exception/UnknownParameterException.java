@@ -36,6 +36,17 @@ public class UnknownParameterException extends RuntimeException {
         this.shorthand = shorthand;
     }
 
+    /**
+     * Creates a new exception, optionally without capturing its stack trace
+     *
+     * @see StacklessExceptions
+     */
+    protected UnknownParameterException(@NotNull String name, boolean shorthand, boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
+        this.name = name;
+        this.shorthand = shorthand;
+    }
+
     public @NotNull String name() {
         return name;
     }
@@ -0,0 +1,53 @@
+/*
+ * This file is part of sweeper, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.hook;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.command.ExecutableCommand;
+
+import java.util.List;
+
+/**
+ * A hook that gets called once after a batch of commands has been registered,
+ * for example, by a single call to {@link Lamp#register(Object...)}.
+ * <p>
+ * Unlike {@link CommandRegisteredHook}, this hook cannot cancel the registration,
+ * and only receives the commands that were actually registered. This is
+ * suitable for platform operations that are expensive to do per command,
+ * such as re-building or syncing a platform's command tree.
+ */
+@FunctionalInterface
+public interface CommandsRegisteredHook<A extends CommandActor> extends Hook {
+
+    /**
+     * Invokes the hook for the commands that have just been registered
+     *
+     * @param commands The registered commands, in the order they were registered
+     */
+    void onRegistered(@NotNull @Unmodifiable List<ExecutableCommand<A>> commands);
+
+}
@@ -33,6 +33,7 @@ import revxrsal.commands.Lamp;
  * Available hooks:
  * <ol>
  *     <li>{@link CommandRegisteredHook} when a command is registered</li>
+ *     <li>{@link CommandsRegisteredHook} after a batch of commands is registered</li>
  *     <li>{@link CommandUnregisteredHook} when a command is unregistered</li>
  *     <li>{@link CommandExecutedHook} when a command is executed</li>
  * </ol>
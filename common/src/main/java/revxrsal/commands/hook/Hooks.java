@@ -98,6 +98,24 @@ public final class Hooks<A extends CommandActor> {
         return !cancelHandle.wasCancelled();
     }
 
+    /**
+     * Calls all {@link CommandsRegisteredHook batch registration hooks}.
+     *
+     * @param commands The commands that were registered
+     */
+    @ApiStatus.Internal
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void onCommandsRegistered(@NotNull @Unmodifiable List<ExecutableCommand<A>> commands) {
+        if (commands.isEmpty())
+            return;
+        for (Hook hook : hooks) {
+            if (hook instanceof CommandsRegisteredHook) {
+                CommandsRegisteredHook registeredHook = (CommandsRegisteredHook) hook;
+                registeredHook.onRegistered(commands);
+            }
+        }
+    }
+
     /**
      * Calls all {@link CommandUnregisteredHook un-registration hooks}.
      *
@@ -193,6 +211,16 @@ public final class Hooks<A extends CommandActor> {
             return hook(hook);
         }
 
+        /**
+         * Adds a hook that runs once after a batch of commands is registered
+         *
+         * @param hook Hook to register
+         * @return this builder
+         */
+        public @NotNull Builder<A> onCommandsRegistered(@NotNull CommandsRegisteredHook<? super A> hook) {
+            return hook(hook);
+        }
+
         /**
          * Adds a hook that runs after a command is unregistered
          *
@@ -32,21 +32,41 @@ import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.stream.StringStream;
 import revxrsal.commands.util.Classes;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.*;
 
 import static revxrsal.commands.util.Preconditions.notNull;
 
 class BasicExecutionContext<A extends CommandActor> implements ExecutionContext<A> {
+
+    /**
+     * Marks arguments that have not been resolved yet, as resolved
+     * arguments may be null.
+     */
+    protected static final Object UNRESOLVED = new Object();
+
     protected final ExecutableCommand<A> command;
     protected final StringStream input;
     protected final A actor;
-    protected final Map<String, Object> resolvedArguments = new LinkedHashMap<>();
+
+    /**
+     * The resolved arguments, indexed by {@link ParameterNode#index()}
+     */
+    protected final Object[] arguments;
+
+    /**
+     * Arguments that do not belong to any parameter of the command. These
+     * are rare, so the map is only created when needed.
+     */
+    protected @Nullable Map<String, Object> extraArguments;
+
+    private final Map<String, Object> resolvedArguments = new ResolvedArgumentsView();
 
     public BasicExecutionContext(ExecutableCommand<A> command, StringStream input, A actor) {
         this.command = command;
         this.input = input;
         this.actor = actor;
+        this.arguments = new Object[command.parameters().size()];
+        Arrays.fill(arguments, UNRESOLVED);
     }
 
     @Override public @NotNull A actor() {
@@ -69,17 +89,47 @@ class BasicExecutionContext<A extends CommandActor> implements ExecutionContext<
         return input;
     }
 
+    /**
+     * Returns the index of the argument of the given parameter, or -1 if
+     * the parameter does not belong to the command of this context.
+     *
+     * @param parameter The parameter
+     * @return The index
+     */
+    protected int indexOf(@NotNull ParameterNode<A, ?> parameter) {
+        int index = parameter.index();
+        if (index >= 0 && index < arguments.length && parameter.command() == command)
+            return index;
+        return -1;
+    }
+
+    /**
+     * Returns the index of the argument of the given parameter name, or -1 if
+     * the command of this context has no such parameter.
+     *
+     * @param name The parameter name
+     * @return The index
+     */
+    protected int indexOf(@NotNull String name) {
+        ParameterNode<A, Object> parameter = command.parameters().get(name);
+        return parameter == null ? -1 : indexOf(parameter);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> @Nullable T getResolvedArgumentOrNull(@NotNull Class<T> argumentType) {
         notNull(argumentType, "argument type");
         argumentType = Classes.wrap(argumentType);
-        for (Object value : resolvedArguments.values()) {
-            if (value == null)
-                continue;
-            if (argumentType.isAssignableFrom(value.getClass()))
+        for (Object value : arguments) {
+            if (value != null && value != UNRESOLVED && argumentType.isAssignableFrom(value.getClass()))
                 return (T) value;
         }
+        if (extraArguments != null) {
+            for (Object value : extraArguments.values()) {
+                if (value != null && argumentType.isAssignableFrom(value.getClass()))
+                    return (T) value;
+            }
+        }
         return null;
     }
 
@@ -87,6 +137,84 @@ class BasicExecutionContext<A extends CommandActor> implements ExecutionContext<
     @SuppressWarnings("unchecked")
     public <T> @Nullable T getResolvedArgumentOrNull(@NotNull String argumentName) {
         notNull(argumentName, "argument name");
-        return (T) resolvedArguments.get(argumentName);
+        int index = indexOf(argumentName);
+        if (index != -1) {
+            Object value = arguments[index];
+            return value == UNRESOLVED ? null : (T) value;
+        }
+        return extraArguments == null ? null : (T) extraArguments.get(argumentName);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T getResolvedArgumentOrNull(@NotNull ParameterNode<A, T> parameter) {
+        notNull(parameter, "parameter");
+        int index = indexOf(parameter);
+        if (index == -1)
+            return getResolvedArgumentOrNull(parameter.name());
+        Object value = arguments[index];
+        return value == UNRESOLVED ? null : (T) value;
+    }
+
+    @Override
+    public boolean isResolved(@NotNull ParameterNode<A, ?> parameter) {
+        notNull(parameter, "parameter");
+        int index = indexOf(parameter);
+        if (index == -1)
+            return resolvedArguments.containsKey(parameter.name());
+        return arguments[index] != UNRESOLVED;
+    }
+
+    /**
+     * An unmodifiable {@link Map} view over the resolved arguments,
+     * ordered by the parameters of the command.
+     */
+    private final class ResolvedArgumentsView extends AbstractMap<String, Object> {
+
+        private final Set<Entry<String, Object>> entrySet = new AbstractSet<Entry<String, Object>>() {
+            @Override public @NotNull Iterator<Entry<String, Object>> iterator() {
+                List<Entry<String, Object>> entries = new ArrayList<>(arguments.length);
+                for (ParameterNode<A, Object> parameter : command.parameters().values()) {
+                    int index = indexOf(parameter);
+                    if (index != -1 && arguments[index] != UNRESOLVED)
+                        entries.add(new SimpleImmutableEntry<>(parameter.name(), arguments[index]));
+                }
+                if (extraArguments != null) {
+                    for (Entry<String, Object> entry : extraArguments.entrySet())
+                        entries.add(new SimpleImmutableEntry<>(entry));
+                }
+                return Collections.unmodifiableList(entries).iterator();
+            }
+
+            @Override public int size() {
+                return ResolvedArgumentsView.this.size();
+            }
+        };
+
+        @Override public @NotNull Set<Entry<String, Object>> entrySet() {
+            return entrySet;
+        }
+
+        @Override public int size() {
+            int size = extraArguments == null ? 0 : extraArguments.size();
+            for (Object argument : arguments) {
+                if (argument != UNRESOLVED)
+                    size++;
+            }
+            return size;
+        }
+
+        @Override public boolean containsKey(Object key) {
+            if (!(key instanceof String))
+                return false;
+            int index = indexOf((String) key);
+            if (index != -1)
+                return arguments[index] != UNRESOLVED;
+            return extraArguments != null && extraArguments.containsKey(key);
+        }
+
+        @Override public Object get(Object key) {
+            return key instanceof String ? getResolvedArgumentOrNull((String) key) : null;
+        }
     }
 }
@@ -28,6 +28,9 @@ import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.stream.StringStream;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+
 /**
  * Represents a basic, mutable implementation of {@link ExecutionContext}.
  *
@@ -41,12 +44,36 @@ final class BasicMutableExecutionContext<A extends CommandActor> extends BasicEx
     }
 
     public void addResolvedArgument(@NotNull String name, Object result) {
-        Object old = resolvedArguments.put(name, result);
+        int index = indexOf(name);
+        if (index != -1) {
+            setArgument(index, name, result);
+            return;
+        }
+        if (extraArguments == null)
+            extraArguments = new LinkedHashMap<>();
+        Object old = extraArguments.put(name, result);
         if (old != null)
             throw new IllegalArgumentException("A parameter with name '" + name + "' already exists!");
     }
 
+    @Override
+    public void addResolvedArgument(@NotNull ParameterNode<A, ?> parameter, Object value) {
+        int index = indexOf(parameter);
+        if (index == -1)
+            addResolvedArgument(parameter.name(), value);
+        else
+            setArgument(index, parameter.name(), value);
+    }
+
+    private void setArgument(int index, @NotNull String name, Object value) {
+        Object old = arguments[index];
+        arguments[index] = value;
+        if (old != UNRESOLVED && old != null)
+            throw new IllegalArgumentException("A parameter with name '" + name + "' already exists!");
+    }
+
     public void clearResolvedArguments() {
-        resolvedArguments.clear();
+        Arrays.fill(arguments, UNRESOLVED);
+        extraArguments = null;
     }
 }
@@ -33,6 +33,7 @@ import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
@@ -115,6 +116,22 @@ public interface CommandRegistry<A extends CommandActor> extends Iterable<Execut
      */
     boolean any(@NotNull Predicate<@NotNull ExecutableCommand<A>> matches);
 
+    /**
+     * Returns the literal paths of non-secret commands that are closest to
+     * the given input, such as {@code island team} for {@code island teem}.
+     * Paths that exactly match the beginning of the input are not included.
+     * <p>
+     * This is meant to be cheap enough to be used by {@link FailureHandler FailureHandlers}
+     * and exception handlers to suggest what the user may have meant.
+     *
+     * @param input The mistyped input
+     * @param limit The maximum number of paths to return
+     * @return The closest paths, closest first
+     */
+    default @NotNull List<String> closestPaths(@NotNull String input, int limit) {
+        return Collections.emptyList();
+    }
+
     /**
      * Returns a new list of all commands that match the
      * given predicate
@@ -45,6 +45,13 @@ final class DefaultFailureHandler<A extends CommandActor> implements FailureHand
         List<Potential<A>> realExceptions = filter(failedAttempts, v -> !(v.error() instanceof ExpectedLiteralException));
         if (realExceptions.isEmpty()) {
             actor.error("Failed to find a suitable command for your input (\"" + input.source() + "\"). Did you mean:");
+            List<String> closest = failedAttempts.get(0).context().lamp().registry()
+                    .closestPaths(input.source(), MAX_NUMBER_OF_SUGGESTIONS);
+            if (!closest.isEmpty()) {
+                for (String path : closest)
+                    actor.reply("- " + path);
+                return;
+            }
             for (int i = 0; i < failedAttempts.size(); i++) {
                 if (i >= MAX_NUMBER_OF_SUGGESTIONS)
                     break;
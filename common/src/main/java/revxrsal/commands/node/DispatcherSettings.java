@@ -25,11 +25,15 @@ package revxrsal.commands.node;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.Potential;
 import revxrsal.commands.util.StackTraceSanitizer;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
 import static revxrsal.commands.node.DefaultFailureHandler.defaultFailureHandler;
 import static revxrsal.commands.util.Preconditions.notNull;
 
@@ -75,10 +79,43 @@ public final class DispatcherSettings<A extends CommandActor> {
      */
     private final @NotNull StackTraceSanitizer stackTraceSanitizer;
 
+    /**
+     * The maximum number of completion sessions to keep. Zero if
+     * completion sessions are disabled.
+     */
+    private final int maximumCompletionSessions;
+
+    /**
+     * The time after which an unused completion session expires, in milliseconds
+     */
+    private final long completionSessionExpiry;
+
+    /**
+     * The deadline of asynchronous completions, in milliseconds. Zero if
+     * asynchronous completions have no deadline.
+     */
+    private final long completionTimeout;
+
+    /**
+     * The maximum number of suggestions returned by a single completion
+     */
+    private final int maximumSuggestions;
+
+    /**
+     * The function that groups actors whose identical completions are
+     * coalesced. Null if completions are not coalesced.
+     */
+    private final @Nullable Function<? super A, ?> completionCoalescingKey;
+
     private DispatcherSettings(Builder<A> builder) {
         this.maximumFailedAttempts = builder.maximumFailedAttempts;
         this.failureHandler = builder.failureHandler;
         this.stackTraceSanitizer = builder.stackTraceSanitizer;
+        this.maximumCompletionSessions = builder.maximumCompletionSessions;
+        this.completionSessionExpiry = builder.completionSessionExpiry;
+        this.completionTimeout = builder.completionTimeout;
+        this.maximumSuggestions = builder.maximumSuggestions;
+        this.completionCoalescingKey = builder.completionCoalescingKey;
     }
 
     /**
@@ -120,6 +157,60 @@ public final class DispatcherSettings<A extends CommandActor> {
         return stackTraceSanitizer;
     }
 
+    /**
+     * The maximum number of actors whose completion sessions are kept.
+     * This is zero if completion sessions are disabled.
+     *
+     * @return The maximum number of completion sessions
+     * @see Builder#completionSessions(int, long, TimeUnit)
+     */
+    public int maximumCompletionSessions() {
+        return maximumCompletionSessions;
+    }
+
+    /**
+     * The time after which an unused completion session expires, in milliseconds
+     *
+     * @return The expiry time of completion sessions
+     * @see Builder#completionSessions(int, long, TimeUnit)
+     */
+    public long completionSessionExpiry() {
+        return completionSessionExpiry;
+    }
+
+    /**
+     * The deadline of asynchronous completions, in milliseconds. This is
+     * zero if asynchronous completions have no deadline.
+     *
+     * @return The completion timeout
+     * @see Builder#completionTimeout(long, TimeUnit)
+     */
+    public long completionTimeout() {
+        return completionTimeout;
+    }
+
+    /**
+     * The maximum number of suggestions returned by a single completion.
+     * This is {@link Integer#MAX_VALUE} if suggestions are unlimited.
+     *
+     * @return The maximum number of suggestions
+     * @see Builder#maximumSuggestions(int)
+     */
+    public int maximumSuggestions() {
+        return maximumSuggestions;
+    }
+
+    /**
+     * The function that groups actors whose identical completions are coalesced.
+     * This is null if completions are not coalesced.
+     *
+     * @return The coalescing key function
+     * @see Builder#coalesceCompletions(Function)
+     */
+    public @Nullable Function<? super A, ?> completionCoalescingKey() {
+        return completionCoalescingKey;
+    }
+
     /**
      * Creates a new {@link Builder} based on this {@link DispatcherSettings}
      * instance
@@ -129,9 +220,15 @@ public final class DispatcherSettings<A extends CommandActor> {
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Contract(value = "-> new", pure = true)
     public @NotNull Builder<A> toBuilder() {
-        return new Builder<>()
+        Builder<A> builder = new Builder<>()
                 .maximumFailedAttempts(maximumFailedAttempts)
-                .failureHandler((FailureHandler) failureHandler);
+                .failureHandler((FailureHandler) failureHandler)
+                .completionSessions(maximumCompletionSessions, completionSessionExpiry, TimeUnit.MILLISECONDS)
+                .completionTimeout(completionTimeout, TimeUnit.MILLISECONDS)
+                .maximumSuggestions(maximumSuggestions);
+        if (completionCoalescingKey != null)
+            builder.coalesceCompletions(completionCoalescingKey);
+        return builder;
     }
 
     /**
@@ -157,6 +254,31 @@ public final class DispatcherSettings<A extends CommandActor> {
          */
         private @NotNull StackTraceSanitizer stackTraceSanitizer = StackTraceSanitizer.defaultSanitizer();
 
+        /**
+         * The maximum number of completion sessions to keep
+         */
+        private int maximumCompletionSessions = 0;
+
+        /**
+         * The time after which an unused completion session expires, in milliseconds
+         */
+        private long completionSessionExpiry = 0;
+
+        /**
+         * The deadline of asynchronous completions, in milliseconds
+         */
+        private long completionTimeout = 0;
+
+        /**
+         * The maximum number of suggestions returned by a single completion
+         */
+        private int maximumSuggestions = Integer.MAX_VALUE;
+
+        /**
+         * The function that groups actors whose identical completions are coalesced
+         */
+        private @Nullable Function<? super A, ?> completionCoalescingKey;
+
         /**
          * Sets the number of failed attempts after which Lamp will stop testing
          * out commands (for efficiency) and invoke the {@link #failureHandler()}.
@@ -198,6 +320,103 @@ public final class DispatcherSettings<A extends CommandActor> {
             return this;
         }
 
+        /**
+         * Enables completion sessions. A completion session remembers the nodes
+         * that were parsed for the last input an actor completed, along with their
+         * values. When the actor completes an input that extends the previous one,
+         * completion resumes after the last node that was fully parsed, rather
+         * than parsing all the nodes again.
+         * <p>
+         * Note that this means values of parameters will be reused until the
+         * session expires, or until the actor changes the parsed input.
+         * <p>
+         * Sessions are disabled by default. Pass zero as the maximum
+         * number of sessions to disable them.
+         *
+         * @param maximumSessions The maximum number of actors whose sessions are
+         *                        kept. The least recently used sessions are
+         *                        discarded first.
+         * @param expireAfter     The time after which an unused session expires
+         * @param unit            The unit of {@code expireAfter}
+         * @return This builder
+         */
+        public @NotNull Builder<A> completionSessions(
+                @Range(from = 0, to = Integer.MAX_VALUE) int maximumSessions,
+                long expireAfter,
+                @NotNull TimeUnit unit
+        ) {
+            notNull(unit, "unit");
+            if (maximumSessions < 0)
+                throw new IllegalArgumentException("Maximum completion sessions cannot be a negative number!");
+            if (expireAfter < 0)
+                throw new IllegalArgumentException("Completion session expiry cannot be negative!");
+            this.maximumCompletionSessions = maximumSessions;
+            this.completionSessionExpiry = unit.toMillis(expireAfter);
+            return this;
+        }
+
+        /**
+         * Sets the deadline of asynchronous completions. When the deadline
+         * passes, the suggestions of all providers that completed in time
+         * are returned, and the suggestions of the remaining providers
+         * are dropped.
+         * <p>
+         * There is no deadline by default. Pass zero to remove the deadline.
+         *
+         * @param timeout The deadline of a single completion request
+         * @param unit    The unit of {@code timeout}
+         * @return This builder
+         * @see revxrsal.commands.autocomplete.AutoCompleter#completeAsync(CommandActor, String)
+         */
+        public @NotNull Builder<A> completionTimeout(long timeout, @NotNull TimeUnit unit) {
+            notNull(unit, "unit");
+            if (timeout < 0)
+                throw new IllegalArgumentException("Completion timeout cannot be negative!");
+            this.completionTimeout = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of suggestions returned by a single completion.
+         * Suggestion providers stop being consulted once the limit is reached,
+         * and {@link revxrsal.commands.autocomplete.StreamingSuggestionProvider StreamingSuggestionProviders}
+         * stop generating suggestions.
+         * <p>
+         * Suggestions are unlimited by default. Platforms that limit the number
+         * of suggestions on their own may apply a lower limit.
+         *
+         * @param maximumSuggestions The maximum number of suggestions
+         * @return This builder
+         */
+        public @NotNull Builder<A> maximumSuggestions(@Range(from = 1, to = Integer.MAX_VALUE) int maximumSuggestions) {
+            if (maximumSuggestions < 1)
+                throw new IllegalArgumentException("Maximum suggestions must be at least 1!");
+            this.maximumSuggestions = maximumSuggestions;
+            return this;
+        }
+
+        /**
+         * Coalesces identical completions that run at the same time. When an
+         * actor completes an input that is already being completed for an
+         * equivalent actor, it waits for that completion rather than running
+         * its own. This flattens spikes where many actors complete the same
+         * input at once.
+         * <p>
+         * Actors are equivalent if the given function returns equal keys for
+         * them. The key should capture everything that suggestions depend on,
+         * such as the actor's permissions or group. Suggestions that depend on
+         * the individual actor should not be coalesced.
+         * <p>
+         * Completions are not coalesced by default.
+         *
+         * @param equivalenceKey The function that returns the key of an actor
+         * @return This builder
+         */
+        public @NotNull Builder<A> coalesceCompletions(@NotNull Function<? super A, ?> equivalenceKey) {
+            this.completionCoalescingKey = notNull(equivalenceKey, "equivalence key");
+            return this;
+        }
+
         /**
          * Creates a new {@link DispatcherSettings} based on this builder
          *
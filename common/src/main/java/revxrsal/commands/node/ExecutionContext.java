@@ -154,6 +154,32 @@ public interface ExecutionContext<A extends CommandActor> {
     @Nullable
     <T> T getResolvedArgumentOrNull(@NotNull Class<T> argumentType);
 
+    /**
+     * Returns the argument that has been resolved for the given parameter.
+     * <p>
+     * Unlike {@link #getResolvedArgumentOrNull(String)}, this accesses the argument
+     * using the {@link ParameterNode#index() index} of the parameter, rather than
+     * looking it up by its name.
+     *
+     * @param parameter The parameter
+     * @param <T>       The parameter type
+     * @return The parameter, or null if it was not resolved
+     */
+    default @Nullable <T> T getResolvedArgumentOrNull(@NotNull ParameterNode<A, T> parameter) {
+        return getResolvedArgumentOrNull(parameter.name());
+    }
+
+    /**
+     * Tests whether an argument has been resolved for the given parameter.
+     * Note that resolved arguments may still be {@code null}.
+     *
+     * @param parameter The parameter
+     * @return if an argument has been resolved for the parameter
+     */
+    default boolean isResolved(@NotNull ParameterNode<A, ?> parameter) {
+        return resolvedArguments().containsKey(parameter.name());
+    }
+
     /**
      * Returns the first argument that matches the given type, or throws
      * an {@link IllegalArgumentException} if not found.
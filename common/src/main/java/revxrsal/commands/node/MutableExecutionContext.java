@@ -43,6 +43,18 @@ public interface MutableExecutionContext<A extends CommandActor> extends Executi
      */
     void addResolvedArgument(@NotNull String name, Object value);
 
+    /**
+     * Adds the value of the given parameter to this context. This is
+     * preferred over {@link #addResolvedArgument(String, Object)}, as
+     * it does not need to look up the parameter by its name.
+     *
+     * @param parameter The parameter
+     * @param value     The parameter value
+     */
+    default void addResolvedArgument(@NotNull ParameterNode<A, ?> parameter, Object value) {
+        addResolvedArgument(parameter.name(), value);
+    }
+
     /**
      * Clears all the resolved arguments. Useful for reusing the same context
      * for multiple commands
@@ -31,6 +31,7 @@ import revxrsal.commands.annotation.list.AnnotationList;
 import revxrsal.commands.autocomplete.SuggestionProvider;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.CommandParameter;
+import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.parameter.ParameterType;
 import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
@@ -130,6 +131,30 @@ public interface ParameterNode<A extends CommandActor, T> extends CommandNode<A>
      */
     @NotNull CommandParameter parameter();
 
+    /**
+     * Returns the index of this parameter among the parameters of its
+     * command, in the same order as {@link ExecutableCommand#parameters()}.
+     * <p>
+     * This is fixed when the command is parsed, and is used to store resolved
+     * arguments in an {@link ExecutionContext} without looking them up by name.
+     * <p>
+     * The default implementation searches the parameters of {@link #command()},
+     * and returns -1 if this parameter is not among them. Implementations
+     * should override this with the index they were created with.
+     *
+     * @return The index of this parameter, or -1 if it is unknown
+     */
+    @Contract(pure = true)
+    default int index() {
+        int index = 0;
+        for (ParameterNode<A, Object> parameter : command().parameters().values()) {
+            if (parameter == this)
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
     /**
      * Tests whether is this parameter greedy or not
      *
@@ -48,6 +48,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import static revxrsal.commands.util.Collections.copyList;
@@ -61,10 +62,52 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
     private final List<ExecutableCommand<A>> unmodifiableChildren;
     private final Lamp<A> lamp;
 
+    /**
+     * Indexes commands by the lower-cased name of their root literal. Each
+     * list is kept in the same (priority) order as {@link #children}.
+     */
+    private final Map<String, List<ExecutableCommand<A>>> byRoot = new HashMap<>();
+
+    /**
+     * The dispatch trees of each root literal. These are created lazily
+     * and discarded whenever the commands of the root literal change.
+     * <p>
+     * Trees are created on the dispatch path, which may run concurrently
+     * on some platforms, hence the concurrent map. Like the indexes, a tree
+     * remembers the {@link #modifications} it was created at, so a tree that
+     * was built concurrently with a modification is never used afterwards.
+     */
+    private final Map<String, DispatchTree<A>> trees = new ConcurrentHashMap<>();
+
+    /**
+     * The number of times commands have been registered or unregistered. This
+     * is incremented after {@link #children} is modified, and lazily created
+     * indexes remember the count they were created at, so an index that was
+     * built concurrently with a modification is never used afterwards.
+     */
+    private volatile int modifications;
+
+    /**
+     * The index of non-secret commands by the name of their root literal,
+     * used for auto-completion. This is created lazily and recreated once
+     * commands are registered or unregistered.
+     */
+    private volatile @Nullable CompletionIndex<A> completionIndex;
+
+    /**
+     * The index of the literal paths of non-secret commands, used to find
+     * paths that are close to mistyped inputs. This is created lazily and
+     * recreated once commands are registered or unregistered.
+     */
+    private volatile @Nullable PathIndex pathIndex;
+
     public BaseCommandRegistry(Lamp<A> lamp, List<ExecutableCommand<A>> children) {
         this.children = children;
         this.lamp = lamp;
         unmodifiableChildren = Collections.unmodifiableList(children);
+        for (ExecutableCommand<A> child : children)
+            byRoot.computeIfAbsent(rootKey(child.firstNode().name()), k -> new ArrayList<>()).add(child);
+        byRoot.values().forEach(Collections::sort);
     }
 
     public BaseCommandRegistry(Lamp<A> lamp) {
@@ -76,10 +119,24 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
     }
 
     @NotNull
-    @SneakyThrows
     public @Unmodifiable List<ExecutableCommand<A>> register(@NotNull Class<?> containerClass, Object instance, @Nullable List<String> orphanPaths) {
+        return registerAll(parse(containerClass, instance, orphanPaths));
+    }
+
+    /**
+     * Parses all the commands in the given class, without registering them.
+     * The returned commands should be registered with {@link #registerAll(List)}.
+     *
+     * @param containerClass The class that contains the commands
+     * @param instance       The instance to invoke the commands on
+     * @param orphanPaths    The paths of the orphan command, if any
+     * @return The parsed commands
+     */
+    @NotNull
+    @SneakyThrows
+    public List<ExecutableCommand<A>> parse(@NotNull Class<?> containerClass, Object instance, @Nullable List<String> orphanPaths) {
         injectDependencies(containerClass, instance);
-        List<ExecutableCommand<A>> registered = new ArrayList<>();
+        List<ExecutableCommand<A>> parsed = new ArrayList<>();
         for (Method method : getAllMethods(containerClass, true)) {
             AnnotationList annotations = AnnotationList.create(method)
                     .replaceAnnotations(method, lamp.annotationReplacers());
@@ -104,14 +161,48 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
             CommandFunction fn = CommandFunctionImpl.create(method, annotations, lamp, caller);
             for (String path : CommandPaths.parseCommandAnnotations(containerClass, fn)) {
                 MutableStringStream stream = StringStream.createMutable(path);
-                ExecutableCommand<A> target = TreeParser.parse(fn, lamp, stream);
-                if (lamp.hooks().onCommandRegistered(target)) {
-                    add(target);
-                    registered.add(target);
-                }
+                parsed.add(TreeParser.parse(fn, lamp, stream));
             }
         }
-        return copyList(registered);
+        return parsed;
+    }
+
+    /**
+     * Registers all the given commands at once. This invokes the
+     * {@link revxrsal.commands.hook.CommandRegisteredHook registration hooks}
+     * for each command, sorts the registered commands once, then invokes the
+     * {@link revxrsal.commands.hook.CommandsRegisteredHook batch registration hooks}
+     * with all the commands that were registered.
+     *
+     * @param commands The commands to register
+     * @return The registered commands
+     */
+    public @NotNull @Unmodifiable List<ExecutableCommand<A>> registerAll(@NotNull List<ExecutableCommand<A>> commands) {
+        List<ExecutableCommand<A>> registered = new ArrayList<>(commands.size());
+        for (ExecutableCommand<A> command : commands) {
+            if (lamp.hooks().onCommandRegistered(command))
+                registered.add(command);
+        }
+        if (registered.isEmpty())
+            return Collections.emptyList();
+        children.addAll(registered);
+        Collections.sort(children);
+        Set<String> modifiedRoots = new HashSet<>();
+        for (ExecutableCommand<A> command : registered) {
+            String key = rootKey(command.firstNode().name());
+            byRoot.computeIfAbsent(key, k -> new ArrayList<>()).add(command);
+            modifiedRoots.add(key);
+        }
+        for (String key : modifiedRoots) {
+            Collections.sort(byRoot.get(key));
+            trees.remove(key);
+        }
+        modifications++;
+        completionIndex = null;
+        pathIndex = null;
+        List<ExecutableCommand<A>> result = copyList(registered);
+        lamp.hooks().onCommandsRegistered(result);
+        return result;
     }
 
     private boolean isCommandMethod(AnnotationList annotations) {
@@ -134,9 +225,22 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
         }
     }
 
-    private void add(@NotNull ExecutableCommand<A> command) {
-        children.add(command);
-        Collections.sort(children);
+    private void removeFromIndex(@NotNull ExecutableCommand<A> command) {
+        String key = rootKey(command.firstNode().name());
+        List<ExecutableCommand<A>> candidates = byRoot.get(key);
+        if (candidates == null)
+            return;
+        candidates.remove(command);
+        trees.remove(key);
+        modifications++;
+        completionIndex = null;
+        pathIndex = null;
+        if (candidates.isEmpty())
+            byRoot.remove(key);
+    }
+
+    private static @NotNull String rootKey(@NotNull String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 
     @Override
@@ -157,26 +261,33 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
         LinkedList<Potential<A>> conflicts = new LinkedList<>();
         LinkedList<Potential<A>> failed = new LinkedList<>();
         String firstWord = input.peekUnquotedString();
-        for (ExecutableCommand<A> execution : children) {
-            // an easy way to exclude irrelevant nodes
-            if (!execution.firstNode().name().equalsIgnoreCase(firstWord))
-                continue;
-
-            MutableStringStream in = input.toMutableCopy();
-            Potential<A> potential = execution.test(actor, in);
-
-            if (conflicts.size() >= lamp.dispatcherSettings().maximumFailedAttempts())
-                break;
-
-            if (potential.successful()) {
-                conflicts.add(potential);
-            } else {
-                failed.add(potential);
+        String key = rootKey(firstWord);
+        int modifications = this.modifications;
+        List<ExecutableCommand<A>> candidates = byRoot.get(key);
+        if (candidates != null) {
+            DispatchTree<A> tree = trees.get(key);
+            if (tree == null || tree.modifications != modifications) {
+                tree = new DispatchTree<>(candidates, modifications);
+                trees.put(key, tree);
+            }
+            for (Potential<A> potential : tree.test(actor, input)) {
+                if (conflicts.size() >= lamp.dispatcherSettings().maximumFailedAttempts())
+                    break;
+
+                if (potential.successful()) {
+                    conflicts.add(potential);
+                } else {
+                    failed.add(potential);
+                }
             }
         }
         if (conflicts.isEmpty()) {
             if (failed.isEmpty()) {
-                lamp.handleException(new UnknownCommandException(firstWord), ErrorContext.unknownCommand(actor));
+                UnknownCommandException exception = new UnknownCommandException(
+                        firstWord,
+                        closestPaths(input.source(), UnknownCommandException.MAXIMUM_SUGGESTIONS)
+                );
+                lamp.handleException(exception, ErrorContext.unknownCommand(actor));
                 return;
             }
             lamp.dispatcherSettings().failureHandler().handleFailedAttempts(actor, Collections.unmodifiableList(failed), input);
@@ -186,12 +297,38 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
         conflicts.getFirst().execute();
     }
 
+    /**
+     * Returns the non-secret commands whose root literal starts with the
+     * given prefix. The commands are returned in the same order as
+     * {@link #commands()}.
+     *
+     * @param prefix The prefix of the root literal. This is case-sensitive.
+     * @return The matching commands
+     */
+    public @NotNull List<ExecutableCommand<A>> completionCandidates(@NotNull String prefix) {
+        int modifications = this.modifications;
+        CompletionIndex<A> index = completionIndex;
+        if (index == null || index.modifications != modifications)
+            completionIndex = index = new CompletionIndex<>(children, modifications);
+        return index.startingWith(prefix);
+    }
+
+    @Override
+    public @NotNull List<String> closestPaths(@NotNull String input, int limit) {
+        int modifications = this.modifications;
+        PathIndex index = pathIndex;
+        if (index == null || index.modifications != modifications)
+            pathIndex = index = new PathIndex(children, modifications);
+        return index.closest(input, limit);
+    }
+
     @Override public @NotNull @UnmodifiableView List<ExecutableCommand<A>> commands() {
         return unmodifiableChildren;
     }
 
     @Override public void unregister(@NotNull ExecutableCommand<A> execution) {
-        children.remove(execution);
+        if (children.remove(execution))
+            removeFromIndex(execution);
     }
 
     @Override public boolean any(@NotNull Predicate<@NotNull ExecutableCommand<A>> matches) {
@@ -204,13 +341,80 @@ public final class BaseCommandRegistry<A extends CommandActor> implements Comman
     }
 
     @Override public void unregisterIf(@NotNull Predicate<ExecutableCommand<A>> matches) {
-        children.removeIf(matches);
+        // the predicate may have side effects (i.e. unregistration hooks), so
+        // it must only be invoked once per command.
+        children.removeIf(command -> {
+            if (matches.test(command)) {
+                removeFromIndex(command);
+                return true;
+            }
+            return false;
+        });
     }
 
     @Override public @NotNull Iterator<ExecutableCommand<A>> iterator() {
         return unmodifiableIterator(children.iterator());
     }
 
+    /**
+     * An immutable snapshot of the non-secret commands, sorted by the
+     * name of their root literal
+     */
+    private static final class CompletionIndex<A extends CommandActor> {
+
+        private final List<ExecutableCommand<A>> commands = new ArrayList<>();
+
+        /**
+         * The positions of commands in {@link #commands}, by their root literal
+         */
+        private final NavigableMap<String, int[]> byRoot = new TreeMap<>();
+
+        /**
+         * The value of {@link BaseCommandRegistry#modifications} before
+         * this index was created
+         */
+        private final int modifications;
+
+        private CompletionIndex(@NotNull List<ExecutableCommand<A>> children, int modifications) {
+            this.modifications = modifications;
+            Map<String, List<Integer>> positions = new HashMap<>();
+            for (ExecutableCommand<A> command : children) {
+                if (command.isSecret())
+                    continue;
+                positions.computeIfAbsent(command.firstNode().name(), k -> new ArrayList<>())
+                        .add(commands.size());
+                commands.add(command);
+            }
+            positions.forEach((name, list) -> {
+                int[] array = new int[list.size()];
+                for (int i = 0; i < array.length; i++)
+                    array[i] = list.get(i);
+                byRoot.put(name, array);
+            });
+        }
+
+        private @NotNull List<ExecutableCommand<A>> startingWith(@NotNull String prefix) {
+            Collection<int[]> matching = byRoot.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+            if (matching.isEmpty())
+                return Collections.emptyList();
+            int size = 0;
+            for (int[] positions : matching)
+                size += positions.length;
+            int[] all = new int[size];
+            int offset = 0;
+            for (int[] positions : matching) {
+                System.arraycopy(positions, 0, all, offset, positions.length);
+                offset += positions.length;
+            }
+            if (matching.size() > 1)
+                Arrays.sort(all);
+            List<ExecutableCommand<A>> result = new ArrayList<>(size);
+            for (int position : all)
+                result.add(commands.get(position));
+            return result;
+        }
+    }
+
     private static final class DynamicCommand implements Command {
         private final String[] value;
 
@@ -0,0 +1,335 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.node.parser;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.command.Potential;
+import revxrsal.commands.node.CommandNode;
+import revxrsal.commands.node.ExecutionContext;
+import revxrsal.commands.node.MutableExecutionContext;
+import revxrsal.commands.node.ParameterNode;
+import revxrsal.commands.parameter.StringParameterType;
+import revxrsal.commands.parameter.primitives.*;
+import revxrsal.commands.stream.MutableStringStream;
+import revxrsal.commands.stream.StringStream;
+
+import java.util.*;
+
+/**
+ * A prefix tree that merges the nodes of all commands that share the same
+ * root literal. Literals and identical parameters that are shared by more
+ * than one command are only parsed once, and the tree only branches where
+ * the commands diverge.
+ * <p>
+ * Testing the tree produces exactly one {@link Potential} for each command,
+ * which can then be resolved using {@link Potential#compareTo(Object)} just
+ * like commands that were tested individually.
+ * <p>
+ * Commands that contain flags or switches are not merged, as these may appear
+ * anywhere in the input. Those are tested individually.
+ * <p>
+ * Parameters are only merged when they use the same built-in parameter type
+ * (see {@link #CONTEXT_FREE_TYPES}). A shared parameter is parsed with the
+ * context of one of its commands, so types that may read the command or the
+ * arguments of their context are parsed for each command separately.
+ *
+ * @param <A> The actor type
+ */
+final class DispatchTree<A extends CommandActor> {
+
+    /**
+     * The built-in parameter types that never read their {@link ExecutionContext},
+     * and as such, parse the same input to the same value for any command.
+     */
+    private static final Set<Class<?>> CONTEXT_FREE_TYPES = new HashSet<>(Arrays.asList(
+            StringParameterType.class,
+            BooleanParameterType.class,
+            ByteParameterType.class,
+            CharParameterType.class,
+            DoubleParameterType.class,
+            FloatParameterType.class,
+            IntParameterType.class,
+            LongParameterType.class,
+            ShortParameterType.class,
+            UUIDParameterType.class
+    ));
+
+    private final List<ExecutableCommand<A>> commands;
+    private final Branch<A> root = new Branch<>(null, -1);
+    private final List<Integer> independent = new ArrayList<>();
+    private int maxSize;
+
+    /**
+     * The value of {@link BaseCommandRegistry#modifications} before
+     * this tree was created
+     */
+    final int modifications;
+
+    /**
+     * Creates a new tree from the given commands. The commands should
+     * already be sorted by priority.
+     *
+     * @param commands      The commands to merge
+     * @param modifications The modification count of the registry
+     */
+    DispatchTree(@NotNull List<ExecutableCommand<A>> commands, int modifications) {
+        this.modifications = modifications;
+        this.commands = new ArrayList<>(commands);
+        for (int i = 0; i < this.commands.size(); i++) {
+            ExecutableCommand<A> command = this.commands.get(i);
+            if (command instanceof Execution && !command.containsFlags())
+                insert(new Member<>(i, (Execution<A>) command));
+            else
+                independent.add(i);
+        }
+    }
+
+    private void insert(@NotNull Member<A> member) {
+        List<CommandNode<A>> nodes = member.execution.nodes();
+        Branch<A> branch = root;
+        for (CommandNode<A> node : nodes) {
+            Branch<A> next = branch.childFor(node);
+            if (next == null)
+                break;
+            next.members.add(member);
+            branch = next;
+        }
+        branch.tails.add(member);
+        maxSize = Math.max(maxSize, nodes.size());
+    }
+
+    /**
+     * Tests all the commands in this tree against the given input
+     *
+     * @param actor The actor
+     * @param input The input
+     * @return The potentials, in the same order as the commands of this tree
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public @NotNull List<Potential<A>> test(@NotNull A actor, @NotNull StringStream input) {
+        Potential<A>[] results = new Potential[commands.size()];
+        for (int index : independent)
+            results[index] = commands.get(index).test(actor, input.toMutableCopy());
+        // all results share the same immutable snapshot of the input, and a
+        // single mutable stream that is rewound between branches.
+        StringStream original = input.isMutable() ? input.toImmutableCopy() : input;
+        new Walk<>(actor, original, results, new Object[maxSize]).walk(root, input.toMutableCopy());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Returns the number of parameters that are parsed once for more
+     * than one command
+     *
+     * @return The number of shared parameters
+     */
+    @VisibleForTesting
+    int sharedParameterCount() {
+        return root.sharedParameterCount();
+    }
+
+    private static @NotNull String key(@NotNull String literal) {
+        return literal.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Represents a single dispatch over the tree
+     */
+    private static final class Walk<A extends CommandActor> {
+
+        private final A actor;
+        private final StringStream original;
+        private final Potential<A>[] results;
+
+        /**
+         * The values of the parameters parsed so far, indexed by
+         * the position of their nodes
+         */
+        private final Object[] values;
+
+        private Walk(A actor, StringStream original, Potential<A>[] results, Object[] values) {
+            this.actor = actor;
+            this.original = original;
+            this.results = results;
+            this.values = values;
+        }
+
+        private void walk(@NotNull Branch<A> branch, @NotNull MutableStringStream input) {
+            int mark = input.mark();
+            for (Member<A> tail : branch.tails) {
+                results[tail.index] = new Execution.ParseResult<>(tail.execution, actor, original, input, branch.depth + 1, values);
+                input.reset(mark);
+            }
+            if (branch.literals.isEmpty() && branch.parameters.isEmpty())
+                return;
+            if (input.hasRemaining() && input.peek() == ' ')
+                input.skipWhitespace();
+            int position = input.position();
+            if (!branch.literals.isEmpty())
+                walkLiterals(branch, input, position);
+            for (Branch<A> parameter : branch.parameters) {
+                input.setPosition(position);
+                walkParameter(parameter, input, position);
+            }
+        }
+
+        private void walkLiterals(@NotNull Branch<A> branch, @NotNull MutableStringStream input, int position) {
+            String value = input.readUnquotedString();
+            Branch<A> matched = branch.literals.get(key(value));
+            if (matched != null) {
+                Execution.ParseResult.checkForSpace(input);
+                walk(matched, input);
+            }
+            input.reset(position);
+            for (Branch<A> literal : branch.literals.values()) {
+                if (literal == matched)
+                    continue;
+                for (Member<A> member : literal.members)
+                    results[member.index] = new Execution.ParseResult<>(member.execution, actor, original, input, literal.depth, value);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void walkParameter(@NotNull Branch<A> parameter, @NotNull MutableStringStream input, int position) {
+            if (input.hasFinished()) {
+                // the argument is missing. let each command report it on its own,
+                // as the error depends on the command.
+                for (Member<A> member : parameter.members) {
+                    results[member.index] = new Execution.ParseResult<>(member.execution, actor, original, input, parameter.depth, values);
+                    input.reset(position);
+                }
+                return;
+            }
+            Execution<A> representative = parameter.members.get(0).execution;
+            MutableExecutionContext<A> context = ExecutionContext.createMutable(representative, actor, original);
+            for (int i = 0; i < parameter.depth; i++) {
+                CommandNode<A> node = representative.nodes().get(i);
+                if (node.isParameter())
+                    context.addResolvedArgument((ParameterNode<A, ?>) node, values[i]);
+            }
+            try {
+                values[parameter.depth] = ((ParameterNodeImpl<A, Object>) parameter.node).parse(input, context);
+                Execution.ParseResult.checkForSpace(input);
+            } catch (Throwable t) {
+                input.reset(position);
+                for (Member<A> member : parameter.members)
+                    results[member.index] = new Execution.ParseResult<>(member.execution, actor, original, input, parameter.depth, t);
+                return;
+            }
+            walk(parameter, input);
+        }
+    }
+
+    /**
+     * A node in the tree. This is shared by all commands that
+     * have the same nodes up to it.
+     */
+    private static final class Branch<A extends CommandActor> {
+
+        /**
+         * The node matched to reach this branch, taken from the first
+         * command inserted into it. This is null for the root.
+         */
+        private final @Nullable CommandNode<A> node;
+
+        /**
+         * The index of {@link #node} in the commands
+         */
+        private final int depth;
+
+        private final Map<String, Branch<A>> literals = new LinkedHashMap<>();
+        private final List<Branch<A>> parameters = new ArrayList<>();
+
+        /**
+         * All commands that go through this branch
+         */
+        private final List<Member<A>> members = new ArrayList<>();
+
+        /**
+         * Commands whose shared nodes end at this branch, and continue
+         * parsing the rest of their nodes on their own.
+         */
+        private final List<Member<A>> tails = new ArrayList<>();
+
+        private Branch(@Nullable CommandNode<A> node, int depth) {
+            this.node = node;
+            this.depth = depth;
+        }
+
+        /**
+         * Returns the child branch that the given node belongs to, creating it
+         * if necessary. This returns null if the node cannot be shared.
+         */
+        private @Nullable Branch<A> childFor(@NotNull CommandNode<A> node) {
+            if (node instanceof LiteralNodeImpl)
+                return literals.computeIfAbsent(key(node.name()), k -> new Branch<>(node, depth + 1));
+            ParameterNodeImpl<A, ?> parameter = (ParameterNodeImpl<A, ?>) node;
+            if (parameter.isOptional() || parameter.isFlag() || parameter.isSwitch()
+                    || !CONTEXT_FREE_TYPES.contains(parameter.parameterType().getClass()))
+                return null;
+            for (Branch<A> branch : parameters) {
+                if (branch.accepts(parameter))
+                    return branch;
+            }
+            Branch<A> branch = new Branch<>(node, depth + 1);
+            parameters.add(branch);
+            return branch;
+        }
+
+        private int sharedParameterCount() {
+            int count = 0;
+            for (Branch<A> branch : literals.values())
+                count += branch.sharedParameterCount();
+            for (Branch<A> branch : parameters)
+                count += (branch.members.size() > 1 ? 1 : 0) + branch.sharedParameterCount();
+            return count;
+        }
+
+        /**
+         * Tests whether the given parameter would parse the exact same value
+         * as the parameter of this branch.
+         */
+        private boolean accepts(@NotNull ParameterNodeImpl<A, ?> other) {
+            ParameterNodeImpl<A, ?> parameter = (ParameterNodeImpl<A, ?>) node;
+            return parameter != null
+                    && parameter.name().equals(other.name())
+                    && parameter.parameterType().equals(other.parameterType())
+                    && parameter.permission().equals(other.permission());
+        }
+    }
+
+    private static final class Member<A extends CommandActor> {
+        private final int index;
+        private final Execution<A> execution;
+
+        private Member(int index, Execution<A> execution) {
+            this.index = index;
+            this.execution = execution;
+        }
+    }
+}
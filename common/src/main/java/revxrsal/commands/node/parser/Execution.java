@@ -33,17 +33,19 @@ import revxrsal.commands.annotation.Description;
 import revxrsal.commands.annotation.SecretCommand;
 import revxrsal.commands.annotation.Usage;
 import revxrsal.commands.command.*;
-import revxrsal.commands.exception.ExpectedLiteralException;
 import revxrsal.commands.exception.InputParseException;
 import revxrsal.commands.exception.context.ErrorContext;
 import revxrsal.commands.help.Help;
 import revxrsal.commands.node.*;
 import revxrsal.commands.process.CommandCondition;
 import revxrsal.commands.stream.MutableStringStream;
+import revxrsal.commands.stream.StringStream;
 
 import java.util.*;
 
 import static java.util.Collections.unmodifiableMap;
+import static revxrsal.commands.exception.StacklessExceptions.expectedLiteral;
+import static revxrsal.commands.exception.StacklessExceptions.inputParse;
 import static revxrsal.commands.exception.context.ErrorContext.executingFunction;
 import static revxrsal.commands.util.Collections.*;
 
@@ -334,24 +336,119 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
         private @Nullable Throwable error;
         private @Nullable ErrorContext<A> errorContext;
 
+        /*
+         * The node that failed to parse. For such failures, the error and its
+         * context are only created when requested, as most failures are simply
+         * discarded when another command matches the input.
+         */
+        private @Nullable CommandNode<A> failedNode;
+        private @Nullable String unmatchedLiteral;
+
+        /*
+         * The input may be shared with other results and rewound after this
+         * result is created, so only the positions are remembered. The input
+         * is copied at the failed position when an error context is requested,
+         * and moved to the end position before executing.
+         */
+        private int failedPosition;
+        private int endPosition;
+
         public ParseResult(Execution<A> execution, A actor, MutableStringStream input) {
-            this.execution = execution;
-            this.context = ExecutionContext.createMutable(execution, actor, input.toImmutableCopy());
-            this.input = input;
-            this.testResult = test();
+            this(execution, actor, input, input, 0, (Object[]) null);
         }
 
-        private boolean test() {
-            if (execution.flagCount > 0) {
-                MutableStringStream original = input.toMutableCopy();
-                if (!tryParseFlags()) {
-                    input = original;
-                    return false;
+        /**
+         * Creates a result that resumes parsing from the node at {@code startIndex}.
+         * All parameters that come before it have already been parsed (by the
+         * {@link DispatchTree}), and their values are stored in {@code parsedValues}
+         * at the index of their respective nodes.
+         */
+        ParseResult(
+                Execution<A> execution,
+                A actor,
+                StringStream original,
+                MutableStringStream input,
+                int startIndex,
+                @Nullable Object[] parsedValues
+        ) {
+            this.execution = execution;
+            this.context = ExecutionContext.createMutable(execution, actor, snapshot(original));
+            this.input = input;
+            if (parsedValues != null) {
+                for (int i = 0; i < startIndex; i++) {
+                    CommandNode<A> node = execution.nodes.get(i);
+                    if (node instanceof ParameterNode)
+                        context.addResolvedArgument((ParameterNode<A, ?>) node, parsedValues[i]);
                 }
             }
-            for (CommandNode<A> node : execution.nodes) {
+            this.testResult = test(startIndex);
+        }
+
+        /**
+         * Creates a result that has failed to parse the parameter at {@code failedIndex}
+         * with the given error. This is used by the {@link DispatchTree} when a
+         * parameter is shared by more than one execution.
+         */
+        ParseResult(
+                Execution<A> execution,
+                A actor,
+                StringStream original,
+                MutableStringStream input,
+                int failedIndex,
+                @NotNull Throwable error
+        ) {
+            this(execution, actor, original, input, failedIndex);
+            this.error = error;
+        }
+
+        /**
+         * Creates a result whose literal at {@code failedIndex} did not match
+         * the given input. This is used by the {@link DispatchTree} when a
+         * literal is shared by more than one execution.
+         */
+        ParseResult(
+                Execution<A> execution,
+                A actor,
+                StringStream original,
+                MutableStringStream input,
+                int failedIndex,
+                @NotNull String unmatchedLiteral
+        ) {
+            this(execution, actor, original, input, failedIndex);
+            this.unmatchedLiteral = unmatchedLiteral;
+        }
+
+        private ParseResult(
+                Execution<A> execution,
+                A actor,
+                StringStream original,
+                MutableStringStream input,
+                int failedIndex
+        ) {
+            this.execution = execution;
+            this.context = ExecutionContext.createMutable(execution, actor, snapshot(original));
+            this.input = input;
+            this.testResult = false;
+            this.failedNode = execution.nodes.get(failedIndex);
+            this.failedPosition = input.position();
+        }
+
+        /**
+         * Returns an immutable stream of the given input. Immutable streams
+         * are shared as they are, as their position cannot change.
+         */
+        private static @NotNull StringStream snapshot(@NotNull StringStream original) {
+            return original.isMutable() ? original.toImmutableCopy() : original;
+        }
+
+        private boolean test(int startIndex) {
+            // a failed result is never executed, so there is no need
+            // to restore the input if the flags fail to parse.
+            if (execution.flagCount > 0 && !tryParseFlags())
+                return false;
+            for (int i = startIndex; i < execution.size; i++) {
+                CommandNode<A> node = execution.nodes.get(i);
                 if (node instanceof ParameterNode<?, ?> && (((ParameterNode<?, ?>) node).isFlag() || ((ParameterNode<?, ?>) node).isSwitch())) {
-                    ParameterNode<?, ?> p = (ParameterNode<?, ?>) node;
                     continue;
                 }
                 if (!tryParse(node, input, context)) {
@@ -363,6 +460,7 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
                 return false;
             }
             consumedAllInput = input.hasFinished();
+            endPosition = input.position();
             return true;
         }
 
@@ -409,25 +507,42 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
 
         @Override
         public void handleException() {
+            Throwable error = error();
+            ErrorContext<A> errorContext = errorContext();
             if (error != null && errorContext != null)
                 context().lamp().handleException(error, errorContext);
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public @Nullable Throwable error() {
+            if (error == null && unmatchedLiteral != null)
+                error = expectedLiteral(unmatchedLiteral, (LiteralNode<CommandActor>) failedNode);
             return error;
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public @Nullable ErrorContext<A> errorContext() {
+            if (errorContext == null && failedNode != null) {
+                if (failedNode instanceof LiteralNodeImpl)
+                    errorContext = ErrorContext.parsingLiteral(context, (LiteralNodeImpl<A>) failedNode);
+                else {
+                    MutableStringStream failedInput = input.toMutableCopy();
+                    failedInput.setPosition(failedPosition);
+                    errorContext = ErrorContext.parsingParameter(context, (ParameterNodeImpl<A, Object>) failedNode, failedInput);
+                }
+            }
             return errorContext;
         }
 
         @Override
         public void execute() {
-            if (error == null) {
-                if (execution.lamp().hooks().onCommandExecuted(execution, context))
+            if (testResult) {
+                if (execution.lamp().hooks().onCommandExecuted(execution, context)) {
+                    input.setPosition(endPosition);
                     execution.lastNode().execute(context, input);
+                }
             }
         }
 
@@ -458,28 +573,29 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
                     return true;
                 }
                 input.setPosition(pos);
-                error = new ExpectedLiteralException(value, (LiteralNode<CommandActor>) l);
-                errorContext = ErrorContext.parsingLiteral(context, l);
+                failedNode = l;
+                unmatchedLiteral = value;
                 return false;
             }
             ParameterNodeImpl<A, Object> parameter = (ParameterNodeImpl<A, Object>) node;
             try {
                 Object value = parameter.parse(input, context);
                 Lamp<A> lamp = execution.function().lamp();
-                context.addResolvedArgument(parameter.name(), value);
+                context.addResolvedArgument(parameter, value);
                 checkForSpace(input);
                 return true;
             } catch (Throwable t) {
                 input.setPosition(pos);
                 error = t;
-                errorContext = ErrorContext.parsingParameter(context, parameter, input);
+                failedNode = parameter;
+                failedPosition = pos;
                 return false;
             }
         }
 
-        private void checkForSpace(MutableStringStream input) {
+        static void checkForSpace(MutableStringStream input) {
             if (input.hasRemaining() && input.peek() != ' ')
-                throw new InputParseException(InputParseException.Cause.EXPECTED_WHITESPACE);
+                throw inputParse(InputParseException.Cause.EXPECTED_WHITESPACE);
         }
 
         @Override
@@ -487,7 +603,7 @@ final class Execution<A extends CommandActor> implements ExecutableCommand<A> {
             if (successful())
                 return "Potential(path=" + execution.path() + ", success=true)";
             else
-                return "Potential(path=" + execution.path() + ", success=false, error=" + error + ")";
+                return "Potential(path=" + execution.path() + ", success=false, error=" + error() + ")";
         }
     }
 }
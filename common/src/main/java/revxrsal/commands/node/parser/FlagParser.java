@@ -26,11 +26,11 @@ package revxrsal.commands.node.parser;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.exception.InputParseException;
-import revxrsal.commands.exception.UnknownParameterException;
 import revxrsal.commands.exception.context.ErrorContext;
 import revxrsal.commands.node.MutableExecutionContext;
 import revxrsal.commands.node.ParameterNode;
 import revxrsal.commands.stream.MutableStringStream;
+import revxrsal.commands.stream.MutableStringStreamImpl;
 import revxrsal.commands.stream.StringStream;
 import revxrsal.commands.util.Strings.StringRange;
 
@@ -39,6 +39,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
+import static revxrsal.commands.exception.StacklessExceptions.inputParse;
+import static revxrsal.commands.exception.StacklessExceptions.unknownParameter;
 import static revxrsal.commands.node.DispatcherSettings.LONG_FORMAT_PREFIX;
 import static revxrsal.commands.node.DispatcherSettings.SHORT_FORMAT_PREFIX;
 import static revxrsal.commands.reflect.ktx.KotlinConstants.isKotlinClass;
@@ -71,6 +73,11 @@ final class FlagParser<A extends CommandActor> {
                 int start = input.position();
                 if (input.peek() == ' ')
                     input.skipWhitespace();
+                if (input.hasFinished() || input.peek() != SHORT_FORMAT_PREFIX.charAt(0)) {
+                    // not a flag. skip the word without copying it
+                    input.moveForward(input.peekUnquotedLength());
+                    continue;
+                }
                 String next = input.peekUnquotedString();
                 if (next.startsWith(LONG_FORMAT_PREFIX)) {
                     String flagName = next.substring(LONG_FORMAT_PREFIX.length());
@@ -95,7 +102,7 @@ final class FlagParser<A extends CommandActor> {
             for (ParameterNode<A, Object> parameter : parametersLeft) {
                 if (parameter.isSwitch()) {
                     if (!isKotlinClass(parameter.command().function().method().getDeclaringClass()))
-                        context.addResolvedArgument(parameter.name(), false);
+                        context.addResolvedArgument(parameter, false);
                 } else if (parameter.isFlag()) {
                     parseFlag(context, parameter, StringStream.createMutable(""));
                 }
@@ -109,10 +116,10 @@ final class FlagParser<A extends CommandActor> {
 
     private void parseNext(MutableExecutionContext<A> context, ParameterNode<A, Object> parameter) {
         if (parameter.isSwitch()) {
-            context.addResolvedArgument(parameter.name(), true);
+            context.addResolvedArgument(parameter, true);
         } else {
             if (input.hasFinished() || input.peek() != ' ')
-                throw new InputParseException(InputParseException.Cause.EXPECTED_WHITESPACE);
+                throw inputParse(InputParseException.Cause.EXPECTED_WHITESPACE);
             input.skipWhitespace();
             parseFlag(context, parameter, input);
         }
@@ -125,7 +132,7 @@ final class FlagParser<A extends CommandActor> {
     ) {
         try {
             T value = parameter.parse(input, context);
-            context.addResolvedArgument(parameter.name(), value);
+            context.addResolvedArgument(parameter, value);
         } catch (Throwable t) {
             errorContext = ErrorContext.parsingParameter(context, parameter, input);
             throw t;
@@ -142,7 +149,7 @@ final class FlagParser<A extends CommandActor> {
             }
         }
         errorContext = ErrorContext.unknownParameter(context);
-        throw new UnknownParameterException(Character.toString(c), true);
+        throw unknownParameter(Character.toString(c), true);
     }
 
     private @NotNull ParameterNode<A, Object> removeParameterNamed(String name) {
@@ -158,10 +165,13 @@ final class FlagParser<A extends CommandActor> {
             }
         }
         errorContext = ErrorContext.unknownParameter(context);
-        throw new UnknownParameterException(name, false);
+        throw unknownParameter(name, false);
     }
 
     public @NotNull MutableStringStream strippedInput() {
+        if (input instanceof MutableStringStreamImpl)
+            return ((MutableStringStreamImpl) input).withoutRanges(rangesToRemove);
+        // streams that are implemented elsewhere, such as ones passed to CommandRegistry#execute
         String string = removeRanges(input.source(), rangesToRemove);
         return StringStream.createMutable(string);
     }
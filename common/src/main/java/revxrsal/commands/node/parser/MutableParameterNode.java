@@ -26,6 +26,7 @@ package revxrsal.commands.node.parser;
 import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.autocomplete.SuggestionProvider;
+import revxrsal.commands.autocomplete.SuggestionProviders;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.CommandParameter;
 import revxrsal.commands.command.CommandPermission;
@@ -42,6 +43,7 @@ final class MutableParameterNode<A extends CommandActor, T> extends MutableComma
 
     private @NotNull CommandParameter parameter;
     private boolean isOptional;
+    private int index;
 
     public MutableParameterNode(@NotNull String name) {
         super(name);
@@ -53,6 +55,9 @@ final class MutableParameterNode<A extends CommandActor, T> extends MutableComma
     }
 
     public @NotNull ParameterNode<A, T> createNode() {
+        // applied here, once the suggestions are final, so that it also
+        // covers the default suggestions of the parameter type
+        suggestions = SuggestionProviders.cacheIfNeeded(suggestions, parameter.annotations());
         return new ParameterNodeImpl<>(
                 getName(),
                 getAction(),
@@ -61,7 +66,8 @@ final class MutableParameterNode<A extends CommandActor, T> extends MutableComma
                 suggestions,
                 parameter,
                 permission,
-                isOptional
+                isOptional,
+                index
         );
     }
 
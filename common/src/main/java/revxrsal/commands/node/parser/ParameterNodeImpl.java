@@ -32,7 +32,6 @@ import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.CommandParameter;
 import revxrsal.commands.command.CommandPermission;
 import revxrsal.commands.command.ExecutableCommand;
-import revxrsal.commands.exception.MissingArgumentException;
 import revxrsal.commands.exception.NoPermissionException;
 import revxrsal.commands.node.CommandAction;
 import revxrsal.commands.node.CommandNode;
@@ -40,13 +39,13 @@ import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.node.ParameterNode;
 import revxrsal.commands.parameter.ParameterType;
 import revxrsal.commands.stream.MutableStringStream;
-import revxrsal.commands.stream.MutableStringStreamImpl;
 import revxrsal.commands.stream.StringStream;
 import revxrsal.commands.util.Classes;
 
 import java.util.Collection;
 import java.util.Objects;
 
+import static revxrsal.commands.exception.StacklessExceptions.missingArgument;
 import static revxrsal.commands.reflect.ktx.KotlinConstants.defaultPrimitiveValue;
 import static revxrsal.commands.reflect.ktx.KotlinConstants.isKotlinClass;
 
@@ -59,6 +58,7 @@ final class ParameterNodeImpl<A extends CommandActor, T> extends BaseCommandNode
     private final boolean isOptional;
     private final @Nullable Switch switchAnn;
     private final @Nullable Flag flagAnn;
+    private final int index;
 
     public ParameterNodeImpl(
             @NotNull String name,
@@ -68,7 +68,8 @@ final class ParameterNodeImpl<A extends CommandActor, T> extends BaseCommandNode
             @NotNull SuggestionProvider<A> suggestions,
             @NotNull CommandParameter parameter,
             @NotNull CommandPermission<A> permission,
-            boolean isOptional
+            boolean isOptional,
+            int index
     ) {
         super(name, action, isLast);
         this.type = type;
@@ -76,6 +77,7 @@ final class ParameterNodeImpl<A extends CommandActor, T> extends BaseCommandNode
         this.parameter = parameter;
         this.permission = permission;
         this.isOptional = isOptional;
+        this.index = index;
         this.switchAnn = parameter.getAnnotation(Switch.class);
         this.flagAnn = parameter.getAnnotation(Flag.class);
         if (isSwitch() && Classes.wrap(type()) != Boolean.class) {
@@ -106,15 +108,17 @@ final class ParameterNodeImpl<A extends CommandActor, T> extends BaseCommandNode
         if (input.hasFinished()) {
             if (isOptional()) {
                 String defaultValue = getDefaultValue(parameter.annotations());
-                if (defaultValue != null)
-                    ((MutableStringStreamImpl) input).extend(defaultValue);
-                else {
+                if (defaultValue != null) {
+                    // parse the default on its own, rather than appending it to
+                    // the input, as the input may be shared with other parses.
+                    return type.parse(StringStream.createMutable(defaultValue), context);
+                } else {
                     if (isKotlinClass(context.command().function().method().getDeclaringClass()))
                         return null;
                     return (T) defaultPrimitiveValue(parameter.type());
                 }
             } else {
-                throw new MissingArgumentException(
+                throw missingArgument(
                         (ParameterNode<CommandActor, Object>) this, (ExecutableCommand<CommandActor>) context.command()
                 );
             }
@@ -167,6 +171,10 @@ final class ParameterNodeImpl<A extends CommandActor, T> extends BaseCommandNode
         return suggestions;
     }
 
+    @Override public int index() {
+        return index;
+    }
+
     @Override public boolean isGreedy() {
         return parameterType().isGreedy();
     }
@@ -0,0 +1,229 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.node.parser;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.command.CommandActor;
+import revxrsal.commands.command.ExecutableCommand;
+import revxrsal.commands.node.CommandNode;
+
+import java.util.*;
+
+/**
+ * An index of the literal paths of non-secret commands (such as {@code island},
+ * {@code island team} and {@code island team invite}), used to find the paths
+ * that are closest to a mistyped input.
+ * <p>
+ * Paths are grouped by their number of words, and each group is stored in a
+ * BK-tree keyed by the edit distance between paths. This allows nearest-match
+ * queries to skip most of the paths, rather than computing the distance to
+ * every one of them.
+ */
+final class PathIndex {
+
+    /**
+     * The trees of paths, indexed by their number of words minus one
+     */
+    private final List<BkTree> trees = new ArrayList<>();
+
+    /**
+     * The modification count of the registry before this index was created
+     */
+    final int modifications;
+
+    <A extends CommandActor> PathIndex(@NotNull List<ExecutableCommand<A>> commands, int modifications) {
+        this.modifications = modifications;
+        Set<String> paths = new HashSet<>();
+        for (ExecutableCommand<A> command : commands) {
+            if (command.isSecret())
+                continue;
+            StringBuilder path = new StringBuilder();
+            int words = 0;
+            for (CommandNode<A> node : command.nodes()) {
+                if (!node.isLiteral())
+                    break;
+                if (words++ > 0)
+                    path.append(' ');
+                path.append(node.name().toLowerCase(Locale.ROOT));
+                String value = path.toString();
+                if (!paths.add(value))
+                    continue;
+                while (trees.size() < words)
+                    trees.add(new BkTree());
+                trees.get(words - 1).add(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the literal paths that are closest to the beginning of the
+     * given input, ignoring case. Paths that exactly match the input are
+     * not included.
+     * <p>
+     * Each path is compared against the same number of words from the
+     * input, and is only included if it is within a small distance relative
+     * to the length of these words. The distance is always less than that
+     * length, so blank and single-character inputs match nothing. Closer
+     * paths come first, then longer paths.
+     *
+     * @param input The input
+     * @param limit The maximum number of paths to return
+     * @return The closest paths
+     */
+    public @NotNull List<String> closest(@NotNull String input, int limit) {
+        String trimmed = input.trim();
+        if (trimmed.isEmpty())
+            return Collections.emptyList();
+        String[] words = trimmed.toLowerCase(Locale.ROOT).split("\\s+");
+        List<Match> matches = new ArrayList<>();
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < words.length && i < trees.size(); i++) {
+            if (i > 0)
+                prefix.append(' ');
+            prefix.append(words[i]);
+            String term = prefix.toString();
+            int maximumDistance = maximumDistance(term);
+            if (maximumDistance > 0)
+                trees.get(i).search(term, maximumDistance, matches);
+        }
+        matches.sort(null);
+        List<String> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (Match match : matches) {
+            if (result.size() >= limit)
+                break;
+            result.add(match.path);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum distance of a path from the given term. This is
+     * less than the length of the term, as otherwise, the path could share
+     * no character with it at all.
+     */
+    private static int maximumDistance(@NotNull String term) {
+        return Math.min(term.length() - 1, Math.min(3, 1 + term.length() / 4));
+    }
+
+    /**
+     * Returns the Levenshtein distance between the given strings
+     */
+    static int distance(@NotNull String a, @NotNull String b) {
+        if (a.length() < b.length()) {
+            String t = a;
+            a = b;
+            b = t;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++)
+            previous[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] t = previous;
+            previous = current;
+            current = t;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * A BK-tree. Every child of a node is stored by its distance to the node,
+     * so by the triangle inequality, a search within distance {@code r} of a
+     * term that is {@code d} away from a node only needs to visit the children
+     * whose distance is between {@code d - r} and {@code d + r}.
+     */
+    private static final class BkTree {
+
+        private @Nullable Node root;
+
+        private void add(@NotNull String path) {
+            if (root == null) {
+                root = new Node(path);
+                return;
+            }
+            Node node = root;
+            while (true) {
+                int distance = distance(path, node.path);
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(path));
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        private void search(@NotNull String term, int maximumDistance, @NotNull List<Match> into) {
+            if (root == null)
+                return;
+            Deque<Node> queue = new ArrayDeque<>();
+            queue.add(root);
+            while (!queue.isEmpty()) {
+                Node node = queue.poll();
+                int distance = distance(term, node.path);
+                if (distance > 0 && distance <= maximumDistance)
+                    into.add(new Match(node.path, distance));
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    int edge = child.getKey();
+                    if (edge >= distance - maximumDistance && edge <= distance + maximumDistance)
+                        queue.add(child.getValue());
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+        private final String path;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(String path) {
+            this.path = path;
+        }
+    }
+
+    private static final class Match implements Comparable<Match> {
+        private final String path;
+        private final int distance;
+
+        private Match(String path, int distance) {
+            this.path = path;
+            this.distance = distance;
+        }
+
+        @Override public int compareTo(@NotNull Match o) {
+            if (distance != o.distance)
+                return Integer.compare(distance, o.distance);
+            if (path.length() != o.path.length())
+                return Integer.compare(o.path.length(), path.length());
+            return path.compareTo(o.path);
+        }
+    }
+}
@@ -27,18 +27,34 @@ import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.command.CommandActor;
 import revxrsal.commands.command.CommandFunction;
 import revxrsal.commands.command.CommandParameter;
+import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.exception.context.ErrorContext;
 import revxrsal.commands.node.CommandAction;
 import revxrsal.commands.node.ExecutionContext;
+import revxrsal.commands.node.ParameterNode;
 import revxrsal.commands.parameter.ContextParameter;
+import revxrsal.commands.process.ParameterValidator;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
+import static revxrsal.commands.util.Collections.copyList;
+
+/**
+ * A {@link CommandAction} that invokes a {@link CommandFunction}.
+ * <p>
+ * The way each argument of the function is supplied is compiled once for
+ * the command, into a flat array of slots. Context parameters are resolved
+ * first, followed by the parsed parameters, each of which is only passed
+ * to the validators that may apply to its type.
+ *
+ * @param <A> The actor type
+ */
 public final class ReflectionAction<A extends CommandActor> implements CommandAction<A> {
 
     private final CommandFunction function;
-    private final Map<Integer, ParameterSupplier<A>> parameters = new HashMap<>();
+    private final List<ContextSlot<A>> contextParameters = new ArrayList<>();
+    private volatile Binder<A> binder;
 
     public ReflectionAction(CommandFunction function) {
         this.function = function;
@@ -48,19 +64,10 @@ public final class ReflectionAction<A extends CommandActor> implements CommandAc
     @Override
     public void execute(ExecutionContext<A> context) {
         try {
-            Object[] arguments = new Object[function.method().getParameterCount()];
-            parameters.forEach((index, parameter) -> {
-                arguments[index] = parameter.get(context);
-            });
-            context.resolvedArguments().forEach((parameterName, value) -> {
-                context.lamp().validate(
-                        context.actor(),
-                        value,
-                        context.command().parameter(parameterName)
-                );
-                int index = function.parameter(parameterName).methodIndex();
-                arguments[index] = value;
-            });
+            Binder<A> binder = this.binder;
+            if (binder == null || binder.command != context.command())
+                binder = compile(context.command());
+            Object[] arguments = binder.bind(context);
 
             Object result = function.call(arguments);
             if (result != null) {
@@ -74,10 +81,94 @@ public final class ReflectionAction<A extends CommandActor> implements CommandAc
     }
 
     void addContextParameter(CommandParameter parameter, ContextParameter<A, ?> contextParameter) {
-        parameters.put(parameter.methodIndex(), context -> contextParameter.resolve(parameter, context));
+        contextParameters.add(new ContextSlot<>(parameter, contextParameter));
+    }
+
+    /**
+     * Compiles the binder of the given command. This should be invoked
+     * once the command has been fully constructed.
+     *
+     * @param command The command that this action belongs to
+     * @return The compiled binder
+     */
+    Binder<A> compile(@NotNull ExecutableCommand<A> command) {
+        List<ParameterSlot<A>> slots = new ArrayList<>();
+        for (ParameterNode<A, Object> parameter : command.parameters().values()) {
+            slots.add(new ParameterSlot<>(parameter, command.lamp().validatorsFor(parameter)));
+        }
+        Binder<A> binder = new Binder<>(
+                command,
+                function.method().getParameterCount(),
+                copyList(contextParameters),
+                slots
+        );
+        this.binder = binder;
+        return binder;
+    }
+
+    /**
+     * The compiled arguments of a command
+     */
+    private static final class Binder<A extends CommandActor> {
+
+        private final ExecutableCommand<A> command;
+        private final int argumentCount;
+        private final List<ContextSlot<A>> contextSlots;
+        private final List<ParameterSlot<A>> parameterSlots;
+
+        private Binder(ExecutableCommand<A> command, int argumentCount, List<ContextSlot<A>> contextSlots, List<ParameterSlot<A>> parameterSlots) {
+            this.command = command;
+            this.argumentCount = argumentCount;
+            this.contextSlots = contextSlots;
+            this.parameterSlots = parameterSlots;
+        }
+
+        private Object[] bind(@NotNull ExecutionContext<A> context) {
+            Object[] arguments = new Object[argumentCount];
+            for (ContextSlot<A> slot : contextSlots)
+                arguments[slot.methodIndex] = slot.resolver.resolve(slot.parameter, context);
+            for (ParameterSlot<A> slot : parameterSlots) {
+                ParameterNode<A, Object> parameter = slot.parameter;
+                if (!context.isResolved(parameter))
+                    continue;
+                Object value = context.getResolvedArgumentOrNull(parameter);
+                for (ParameterValidator<A, Object> validator : slot.validators)
+                    validator.validate(context.actor(), value, parameter, context.lamp());
+                arguments[slot.methodIndex] = value;
+            }
+            return arguments;
+        }
     }
 
-    private interface ParameterSupplier<A extends CommandActor> {
-        Object get(@NotNull ExecutionContext<A> context);
+    /**
+     * An argument supplied by a {@link ContextParameter}
+     */
+    private static final class ContextSlot<A extends CommandActor> {
+
+        private final CommandParameter parameter;
+        private final ContextParameter<A, ?> resolver;
+        private final int methodIndex;
+
+        private ContextSlot(CommandParameter parameter, ContextParameter<A, ?> resolver) {
+            this.parameter = parameter;
+            this.resolver = resolver;
+            this.methodIndex = parameter.methodIndex();
+        }
+    }
+
+    /**
+     * An argument parsed from the input
+     */
+    private static final class ParameterSlot<A extends CommandActor> {
+
+        private final ParameterNode<A, Object> parameter;
+        private final List<ParameterValidator<A, Object>> validators;
+        private final int methodIndex;
+
+        private ParameterSlot(ParameterNode<A, Object> parameter, List<ParameterValidator<A, Object>> validators) {
+            this.parameter = parameter;
+            this.validators = validators;
+            this.methodIndex = parameter.parameter().methodIndex();
+        }
     }
 }
@@ -120,7 +120,10 @@ public final class TreeParser<A extends CommandActor> {
         if (isParameter(last))
             setIfGreedy(p(last));
         List<CommandNode<A>> executionNodes = new ArrayList<>();
+        int parameterIndex = 0;
         for (MutableCommandNode<A> node : nodes) {
+            if (isParameter(node))
+                p(node).setIndex(parameterIndex++);
             if (isParameter(node) && p(node).type().isGreedy() && !node.isLast()) {
                 throw new IllegalArgumentException("Found a greedy parameter (" + node.getName() + ") in the middle of the command. " +
                         "Greedy parameters can only come at the end of the command.");
@@ -132,6 +135,7 @@ public final class TreeParser<A extends CommandActor> {
             ((BaseCommandNode) node).setCommand(executableCommand);
             ((BaseCommandNode) node).setLamp(lamp);
         });
+        action.compile(executableCommand);
         return executableCommand;
     }
 
@@ -46,6 +46,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static revxrsal.commands.autocomplete.SuggestionProvider.empty;
+import static revxrsal.commands.exception.StacklessExceptions.inputParse;
 import static revxrsal.commands.util.Collections.filter;
 
 @ApiStatus.Internal
@@ -117,7 +118,7 @@ abstract class CollectionParameterTypeFactory implements ParameterType.Factory<C
                     if (input.peek() == delimiter)
                         input.skipWhitespace();
                     else
-                        throw new InputParseException(InputParseException.Cause.EXPECTED_WHITESPACE);
+                        throw inputParse(InputParseException.Cause.EXPECTED_WHITESPACE);
                 }
             }
             if (elements.size() > maxSize || elements.size() < minSize)
@@ -29,7 +29,6 @@ import revxrsal.commands.Lamp;
 import revxrsal.commands.annotation.list.AnnotationList;
 import revxrsal.commands.autocomplete.SuggestionProvider;
 import revxrsal.commands.command.CommandActor;
-import revxrsal.commands.exception.EnumNotFoundException;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
 import revxrsal.commands.parameter.PrioritySpec;
@@ -38,6 +37,7 @@ import revxrsal.commands.stream.MutableStringStream;
 import java.lang.reflect.Type;
 import java.util.*;
 
+import static revxrsal.commands.exception.StacklessExceptions.enumNotFound;
 import static revxrsal.commands.util.Classes.getRawType;
 
 @ApiStatus.Internal
@@ -65,6 +65,7 @@ public enum EnumParameterTypeFactory implements ParameterType.Factory<CommandAct
         private final Class<E> enumType;
         private final Map<String, E> byKeys;
         private final List<String> suggestions;
+        private final SuggestionProvider<CommandActor> defaultSuggestions;
 
         private EnumParameterType(
                 Class<E> enumType, Map<String, E> byKeys,
@@ -73,6 +74,7 @@ public enum EnumParameterTypeFactory implements ParameterType.Factory<CommandAct
             this.enumType = enumType;
             this.byKeys = byKeys;
             this.suggestions = suggestions;
+            this.defaultSuggestions = SuggestionProvider.of(suggestions.toArray(new String[0]));
         }
 
         @Override
@@ -81,11 +83,11 @@ public enum EnumParameterTypeFactory implements ParameterType.Factory<CommandAct
             E value = byKeys.get(key.toLowerCase());
             if (value != null)
                 return value;
-            throw new EnumNotFoundException(key, enumType);
+            throw enumNotFound(key, enumType);
         }
 
         @Override public @NotNull SuggestionProvider<CommandActor> defaultSuggestions() {
-            return SuggestionProvider.of(suggestions);
+            return defaultSuggestions;
         }
 
         @Override
@@ -25,13 +25,14 @@ package revxrsal.commands.parameter.primitives;
 
 import org.jetbrains.annotations.NotNull;
 import revxrsal.commands.command.CommandActor;
-import revxrsal.commands.exception.InvalidUUIDException;
 import revxrsal.commands.node.ExecutionContext;
 import revxrsal.commands.parameter.ParameterType;
 import revxrsal.commands.stream.MutableStringStream;
 
 import java.util.UUID;
 
+import static revxrsal.commands.exception.StacklessExceptions.invalidUUID;
+
 /**
  * A basic {@link ParameterType} for parsing {@link UUID} types
  */
@@ -43,7 +44,7 @@ public final class UUIDParameterType implements ParameterType<CommandActor, UUID
         try {
             return UUID.fromString(value);
         } catch (IllegalArgumentException e) {
-            throw new InvalidUUIDException(value);
+            throw invalidUUID(value);
         }
     }
 }
@@ -27,8 +27,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Method;
 
+import static revxrsal.commands.reflect.MethodCallerFactory.directMethodHandles;
 import static revxrsal.commands.reflect.MethodCallerFactory.kotlinFunctions;
-import static revxrsal.commands.reflect.MethodCallerFactory.methodHandles;
 import static revxrsal.commands.reflect.ktx.KotlinConstants.isKotlinClass;
 
 final class DefaultMethodCallerFactory implements MethodCallerFactory {
@@ -40,6 +40,6 @@ final class DefaultMethodCallerFactory implements MethodCallerFactory {
         if (isKotlinClass(method.getDeclaringClass())) {
             return kotlinFunctions().createFor(method);
         }
-        return methodHandles().createFor(method);
+        return directMethodHandles().createFor(method);
     }
 }
@@ -0,0 +1,149 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the seconds
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.reflect;
+
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import revxrsal.commands.reflect.MethodCaller.BoundMethodCaller;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A {@link MethodCallerFactory} that uses the method handles API to generate
+ * method callers.
+ * <p>
+ * Unlike {@link MethodHandlesCallerFactory}, the handles are adapted once to
+ * take their arguments as a single {@code Object[]}, and are invoked
+ * with {@link MethodHandle#invokeExact(Object...)}. This avoids copying
+ * the arguments into a list and re-adapting the handle on every call. Bound
+ * callers additionally bind the instance into the handle itself.
+ */
+final class DirectMethodHandlesCallerFactory implements MethodCallerFactory {
+
+    public static final DirectMethodHandlesCallerFactory INSTANCE = new DirectMethodHandlesCallerFactory();
+
+    @Override public @NotNull MethodCaller createFor(@NotNull Method method) throws Throwable {
+        if (!method.isAccessible()) method.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+        int parameterCount = method.getParameterCount();
+        String methodString = method.toString();
+        if (Modifier.isStatic(method.getModifiers())) {
+            MethodHandle spreader = handle
+                    .asType(MethodType.genericMethodType(parameterCount))
+                    .asSpreader(Object[].class, parameterCount);
+            return new StaticCaller(spreader, methodString);
+        }
+        MethodHandle spreader = handle
+                .asType(MethodType.genericMethodType(parameterCount + 1))
+                .asSpreader(Object[].class, parameterCount);
+        return new InstanceCaller(spreader, methodString);
+    }
+
+    @Override public String toString() {
+        return "DirectMethodHandlesCallerFactory";
+    }
+
+    /**
+     * A caller for static methods. The handle has the type {@code (Object[])Object}.
+     */
+    private static final class StaticCaller implements MethodCaller {
+
+        private final MethodHandle handle;
+        private final String methodString;
+
+        private StaticCaller(MethodHandle handle, String methodString) {
+            this.handle = handle;
+            this.methodString = methodString;
+        }
+
+        @SneakyThrows @Override public Object call(@Nullable Object instance, Object... arguments) {
+            return (Object) handle.invokeExact(arguments);
+        }
+
+        @Override public BoundMethodCaller bindTo(@Nullable Object instance) {
+            return new BoundCaller(handle, methodString);
+        }
+
+        @Override public String toString() {
+            return "DirectMethodHandlesCaller(" + methodString + ")";
+        }
+    }
+
+    /**
+     * A caller for instance methods. The handle has the
+     * type {@code (Object, Object[])Object}.
+     */
+    private static final class InstanceCaller implements MethodCaller {
+
+        private final MethodHandle handle;
+        private final String methodString;
+
+        private InstanceCaller(MethodHandle handle, String methodString) {
+            this.handle = handle;
+            this.methodString = methodString;
+        }
+
+        @SneakyThrows @Override public Object call(@Nullable Object instance, Object... arguments) {
+            return (Object) handle.invokeExact(instance, arguments);
+        }
+
+        @Override public BoundMethodCaller bindTo(@Nullable Object instance) {
+            if (instance == null)
+                return MethodCaller.super.bindTo(null);
+            return new BoundCaller(handle.bindTo(instance), methodString);
+        }
+
+        @Override public String toString() {
+            return "DirectMethodHandlesCaller(" + methodString + ")";
+        }
+    }
+
+    /**
+     * A caller whose instance, if any, is already bound into the handle.
+     * The handle has the type {@code (Object[])Object}.
+     */
+    private static final class BoundCaller implements BoundMethodCaller {
+
+        private final MethodHandle handle;
+        private final String methodString;
+
+        private BoundCaller(MethodHandle handle, String methodString) {
+            this.handle = handle;
+            this.methodString = methodString;
+        }
+
+        @SneakyThrows @Override public Object call(@NotNull Object... arguments) {
+            return (Object) handle.invokeExact(arguments);
+        }
+
+        @Override public String toString() {
+            return "DirectMethodHandlesCaller(" + methodString + ")";
+        }
+    }
+}
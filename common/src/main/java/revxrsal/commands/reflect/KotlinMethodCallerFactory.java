@@ -29,11 +29,6 @@ import revxrsal.commands.annotation.Switch;
 import revxrsal.commands.reflect.ktx.KotlinFunction;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
-import static revxrsal.commands.reflect.ktx.KotlinConstants.ABSENT_VALUE;
 
 final class KotlinMethodCallerFactory implements MethodCallerFactory {
 
@@ -41,15 +36,8 @@ final class KotlinMethodCallerFactory implements MethodCallerFactory {
 
     @Override public @NotNull MethodCaller createFor(@NotNull Method method) {
         KotlinFunction function = KotlinFunction.wrap(method);
-        return (instance, arguments) -> {
-            List<Object> list = new ArrayList<>();
-            Collections.addAll(list, arguments);
-            list.replaceAll(v -> v == ABSENT_VALUE ? null : v);
-            return function.call(
-                    instance,
-                    list,
-                    parameter -> parameter.isAnnotationPresent(Optional.class) || parameter.isAnnotationPresent(Switch.class)
-            );
-        };
+        return function.createCaller(
+                parameter -> parameter.isAnnotationPresent(Optional.class) || parameter.isAnnotationPresent(Switch.class)
+        );
     }
 }
\ No newline at end of file
@@ -43,6 +43,18 @@ public interface MethodCallerFactory {
         return MethodHandlesCallerFactory.INSTANCE;
     }
 
+    /**
+     * Returns a {@link MethodCallerFactory} that uses the method handles
+     * API to create method callers. The generated handles take their
+     * arguments directly as an array, and bound callers have their
+     * instance bound into the handle.
+     *
+     * @return The direct method handles caller factory
+     */
+    static @NotNull MethodCallerFactory directMethodHandles() {
+        return DirectMethodHandlesCallerFactory.INSTANCE;
+    }
+
     /**
      * Returns a {@link MethodCallerFactory} that allows invocation
      * of Kotlin functions with their default values.
@@ -55,7 +67,7 @@ public interface MethodCallerFactory {
 
     /**
      * Returns the default {@link MethodCallerFactory}, which uses
-     * the method handles API to create method callers, and
+     * {@link #directMethodHandles()} to create method callers, and
      * {@link KotlinFunction} to call Kotlin methods.
      *
      * @return The default method caller factory.
@@ -26,10 +26,12 @@ package revxrsal.commands.reflect.ktx;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
+import revxrsal.commands.reflect.MethodCaller;
 import revxrsal.commands.util.Preconditions;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -200,6 +202,30 @@ public interface KotlinFunction {
             @NotNull Function<Parameter, Boolean> isOptional
     );
 
+    /**
+     * Creates a {@link MethodCaller} that calls this function with the
+     * given arguments, in the order of parameters declared in the original
+     * Kotlin function. This is equivalent to {@link #call(Object, List, Function)},
+     * except that {@code isOptional} is only evaluated once for each
+     * parameter, when the caller is created.
+     * <p>
+     * To use the default value of a parameter, pass a {@code null} or
+     * {@link KotlinConstants#ABSENT_VALUE} in its place.
+     *
+     * @param isOptional A function that guides the invocation
+     *                   into knowing which parameters are optional.
+     *                   See {@link #call(Object, List, Function)}
+     * @return The method caller
+     */
+    default @NotNull MethodCaller createCaller(@NotNull Function<Parameter, Boolean> isOptional) {
+        return (instance, arguments) -> {
+            List<Object> list = new ArrayList<>(arguments.length);
+            for (Object argument : arguments)
+                list.add(argument == KotlinConstants.ABSENT_VALUE ? null : argument);
+            return call(instance, list, isOptional);
+        };
+    }
+
     /**
      * Returns the method that this function wraps
      *
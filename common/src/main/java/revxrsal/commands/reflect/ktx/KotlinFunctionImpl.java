@@ -37,6 +37,7 @@ import java.util.function.Supplier;
 
 import static java.lang.reflect.Modifier.isStatic;
 import static revxrsal.commands.reflect.ktx.DefaultFunctionFinder.findDefaultFunction;
+import static revxrsal.commands.reflect.ktx.KotlinConstants.ABSENT_VALUE;
 import static revxrsal.commands.reflect.ktx.KotlinConstants.continuation;
 import static revxrsal.commands.reflect.ktx.KotlinConstants.defaultPrimitiveValue;
 import static revxrsal.commands.reflect.ktx.KotlinSingletons.getCallerForNonDefault;
@@ -190,6 +191,11 @@ final class KotlinFunctionImpl implements KotlinFunction {
         return (T) defaultMethod.caller().call(instance, args.toArray());
     }
 
+    @Override
+    public @NotNull MethodCaller createCaller(@NotNull Function<Parameter, Boolean> isOptional) {
+        return new CompiledCaller(isOptional);
+    }
+
     @NotNull
     private Map<Parameter, Object> mapArgsToParams(@NotNull Function<Integer, Object> map) {
         Map<Parameter, Object> callArgs = new HashMap<>();
@@ -222,4 +228,112 @@ final class KotlinFunctionImpl implements KotlinFunction {
     public @NotNull Parameter getParameter(int index) {
         return parameters.get(index);
     }
+
+    /**
+     * A {@link MethodCaller} that has the layout of the function's arguments
+     * computed ahead of time. Each call only fills a single argument
+     * array, along with the masks of the default synthetic function.
+     * <p>
+     * This follows the same rules as {@link #callByParameters(Object, Map, Function)}.
+     */
+    private final class CompiledCaller implements MethodCaller {
+
+        private final int parameterCount;
+        private final int maskCount;
+        private final boolean hasContextReceiver;
+
+        /**
+         * Whether is each parameter optional
+         */
+        private final boolean[] optional;
+
+        /**
+         * The values to pass in place of absent parameters: The default
+         * primitive values for optional parameters, and empty arrays for
+         * vararg ones.
+         */
+        private final Object[] absentValues;
+
+        private CompiledCaller(@NotNull Function<Parameter, Boolean> isOptional) {
+            this.parameterCount = parameters.size();
+            this.maskCount = parameterCount == 0 ? 1 : (parameterCount - 1) / Integer.SIZE + 1;
+            this.hasContextReceiver = parameterCount > 0 && parameters.get(0).getName().startsWith(CONTEXT_PARAMETER_PREFIX);
+            this.optional = new boolean[parameterCount];
+            this.absentValues = new Object[parameterCount];
+            for (int i = 0; i < parameterCount; i++) {
+                Parameter parameter = parameters.get(i);
+                optional[i] = isOptional.apply(parameter);
+                if (optional[i])
+                    absentValues[i] = defaultPrimitiveValue(parameter.getType());
+                else if (parameter.isVarArgs())
+                    absentValues[i] = Array.newInstance(parameter.getType(), 0);
+            }
+        }
+
+        @Override
+        public Object call(@Nullable Object instance, Object... arguments) {
+            checkCallableStatic(instance, mainMethod.method());
+            boolean anyOptional = false;
+            for (int i = 0; i < parameterCount; i++) {
+                if (isAbsent(arguments, i)) {
+                    if (optional[i])
+                        anyOptional = true;
+                    else if (!parameters.get(i).isVarArgs())
+                        throw new IllegalArgumentException("No argument provided for a required parameter: " + parameters.get(i) + ".");
+                }
+            }
+
+            if (!anyOptional)
+                return mainMethod.caller().call(instance, fill(arguments, new Object[parameterCount]));
+
+            CallableMethod defaultMethod = KotlinFunctionImpl.this.defaultMethod.get();
+            if (defaultMethod == null) {
+                // there's a possibility that our isOptional checker failed.
+                if (mainMethod.method().getParameterCount() == parameterCount)
+                    return mainMethod.caller().call(instance, fill(arguments, new Object[parameterCount]));
+                throw new IllegalArgumentException("Unable to invoke function with default parameters. " +
+                        "This may happen because you have an @Optional non-null primitive type (e.g. Int) " +
+                        "with no default value using @Default or a Kotlin-default value. " +
+                        "It may also occur if you have @Switch with no default value. (@Switch param: Boolean = ...). " +
+                        "Either mark it as nullable, add a default value (@Optional param: Type = ...), or use @Default");
+            }
+
+            // parameters, then masks, then DefaultConstructorMarker or MethodHandle
+            Object[] args = fill(arguments, new Object[parameterCount + maskCount + 1]);
+            for (int i = 0; i < maskCount; i++) {
+                int mask = 0;
+                int end = Math.min(parameterCount, (i + 1) * Integer.SIZE);
+                for (int index = i * Integer.SIZE; index < end; index++) {
+                    if (optional[index] && isAbsent(arguments, index))
+                        mask = mask | 1 << index % Integer.SIZE;
+                }
+                if (i == 0 && hasContextReceiver)
+                    mask = mask / 2;
+                args[parameterCount + i] = mask;
+            }
+            return defaultMethod.caller().call(instance, args);
+        }
+
+        /**
+         * Copies the given arguments into the target array, replacing
+         * absent ones with their placeholders.
+         */
+        private Object[] fill(Object[] arguments, Object[] target) {
+            for (int i = 0; i < parameterCount; i++)
+                target[i] = isAbsent(arguments, i) ? absentValues[i] : arguments[i];
+            return target;
+        }
+
+        private boolean isAbsent(Object[] arguments, int index) {
+            if (index >= arguments.length)
+                return true;
+            Object argument = arguments[index];
+            return argument == null || argument == ABSENT_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            return "KotlinFunctionCaller(" + mainMethod.method() + ")";
+        }
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.stream;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A {@link CharSequence} that presents a command label followed by its
+ * arguments, separated by single spaces, without joining them into a
+ * string upfront.
+ * <p>
+ * Platforms pass the arguments of a command as an array. Most of the input
+ * is read word by word, and words generally line up with the arguments,
+ * so slices that fall within a single argument are served from the
+ * argument directly. The joined string is only built (once) when the
+ * entire source is requested.
+ */
+final class ArgumentsSequence implements CharSequence {
+
+    private final String[] parts;
+
+    /**
+     * The index at which each part starts in the joined sequence
+     */
+    private final int[] offsets;
+    private final int length;
+    private String joined;
+
+    ArgumentsSequence(@NotNull String label, @NotNull String[] arguments) {
+        this.parts = new String[arguments.length + 1];
+        this.offsets = new int[parts.length];
+        parts[0] = label;
+        System.arraycopy(arguments, 0, parts, 1, arguments.length);
+        int offset = 0;
+        for (int i = 0; i < parts.length; i++) {
+            offsets[i] = offset;
+            offset += parts[i].length() + 1;
+        }
+        this.length = offset - 1;
+    }
+
+    /**
+     * Returns the index of the part that contains the given index. An index
+     * that points at a separator belongs to the part before it.
+     */
+    private int partAt(int index) {
+        int found = Arrays.binarySearch(offsets, index);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    @Override public int length() {
+        return length;
+    }
+
+    @Override public char charAt(int index) {
+        if (index < 0 || index >= length)
+            throw new StringIndexOutOfBoundsException(index);
+        int part = partAt(index);
+        int offset = index - offsets[part];
+        String value = parts[part];
+        return offset == value.length() ? ' ' : value.charAt(offset);
+    }
+
+    @Override public @NotNull CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end)
+            throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+        if (joined == null) {
+            int part = partAt(start);
+            int from = start - offsets[part];
+            String value = parts[part];
+            if (end - offsets[part] <= value.length())
+                return from == 0 && end - start == value.length() ? value : value.substring(from, end - offsets[part]);
+        }
+        return toString().substring(start, end);
+    }
+
+    @Override public @NotNull String toString() {
+        if (joined == null) {
+            StringBuilder builder = new StringBuilder(length);
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0)
+                    builder.append(' ');
+                builder.append(parts[i]);
+            }
+            joined = builder.toString();
+        }
+        return joined;
+    }
+}
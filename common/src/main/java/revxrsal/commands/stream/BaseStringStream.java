@@ -28,6 +28,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import revxrsal.commands.exception.InputParseException;
 
+import static revxrsal.commands.exception.StacklessExceptions.inputParse;
+
 /**
  * A class that aids in parsing a stream of characters.
  */
@@ -44,15 +46,23 @@ class BaseStringStream implements StringStream {
     protected static final char DOUBLE_QUOTE = '"';
 
     /**
-     * The source string being read
+     * The source being read. This is usually a {@link String}, but may
+     * be any sequence that only becomes a string when {@link #source()}
+     * is called.
      */
-    protected String source;
+    protected CharSequence source;
 
     /**
      * The current reading position
      */
     protected int pos;
 
+    /**
+     * The word boundaries of the source. These are computed lazily, and
+     * shared with every copy of this stream.
+     */
+    protected TokenTable tokens;
+
     /**
      * Creates a new {@link MutableStringStream} with its position at zero.
      *
@@ -67,14 +77,49 @@ class BaseStringStream implements StringStream {
      *
      * @param source Source to read
      */
-    BaseStringStream(@NotNull String source, int position) {
+    BaseStringStream(@NotNull CharSequence source, int position) {
+        this(source, position, null);
+    }
+
+    /**
+     * Creates a new {@link StringStream} that shares the given word boundaries.
+     *
+     * @param source   Source to read
+     * @param position Cursor position
+     * @param tokens   The word boundaries of the source, or null to compute lazily
+     */
+    BaseStringStream(@NotNull CharSequence source, int position, TokenTable tokens) {
         this.source = source;
         this.pos = position;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns the word boundaries of the source, computing them if necessary
+     *
+     * @return The word boundaries
+     */
+    protected final @NotNull TokenTable tokens() {
+        if (tokens == null)
+            tokens = TokenTable.of(source);
+        return tokens;
     }
 
     @Override
     public @NotNull String source() {
-        return source;
+        return source.toString();
+    }
+
+    /**
+     * Returns the characters of the source between the given indices,
+     * without materializing the entire source if possible.
+     *
+     * @param start The start index, inclusive
+     * @param end   The end index, exclusive
+     * @return The characters as a string
+     */
+    protected final @NotNull String slice(int start, int end) {
+        return source.subSequence(start, end).toString();
     }
 
     public int totalSize() {
@@ -95,7 +140,7 @@ class BaseStringStream implements StringStream {
     public String peek(int characters) {
         if (!canRead(characters))
             return peekRemaining();
-        return source.substring(pos, pos + characters);
+        return slice(pos, pos + characters);
     }
 
     @Contract(pure = true)
@@ -121,10 +166,8 @@ class BaseStringStream implements StringStream {
 
     public @NotNull String readUnquotedString() {
         int start = pos;
-        while (hasRemaining() && !Character.isWhitespace(peek())) {
-            pos += 1;
-        }
-        return source.substring(start, pos);
+        pos = tokens().unquotedEnd(start);
+        return slice(start, pos);
     }
 
     public @NotNull String readString() {
@@ -132,6 +175,12 @@ class BaseStringStream implements StringStream {
             return "";
         char next = peek();
         if (next == DOUBLE_QUOTE) {
+            int end = tokens().quotedEnd(pos);
+            if (end != -1) {
+                String value = slice(pos + 1, end - 1);
+                pos = end;
+                return value;
+            }
             pos += 1;
             return readUntil(DOUBLE_QUOTE);
         }
@@ -157,7 +206,7 @@ class BaseStringStream implements StringStream {
                     escaped = false;
                 } else {
                     pos--;
-                    throw new InputParseException(InputParseException.Cause.INVALID_ESCAPE_CHARACTER);
+                    throw inputParse(InputParseException.Cause.INVALID_ESCAPE_CHARACTER);
                 }
             } else if (c == ESCAPE) {
                 escaped = true;
@@ -170,7 +219,7 @@ class BaseStringStream implements StringStream {
         if (allowUnclosed)
             return result.toString();
         else
-            throw new InputParseException(InputParseException.Cause.UNCLOSED_QUOTE);
+            throw inputParse(InputParseException.Cause.UNCLOSED_QUOTE);
     }
 
     @Override public @NotNull String peekString() {
@@ -179,6 +228,9 @@ class BaseStringStream implements StringStream {
         int cursor = pos;
         char next = peek();
         if (next == DOUBLE_QUOTE) {
+            int end = tokens().quotedEnd(pos);
+            if (end != -1)
+                return slice(pos + 1, end - 1);
             pos += 1;
             String result = readUntil(DOUBLE_QUOTE, true);
             pos = cursor;
@@ -188,26 +240,27 @@ class BaseStringStream implements StringStream {
     }
 
     public @NotNull String peekUnquotedString() {
-        int cursor = pos;
-        String value = readUnquotedString();
-        pos = cursor;
-        return value;
+        return slice(pos, tokens().unquotedEnd(pos));
+    }
+
+    @Override public int peekUnquotedLength() {
+        return tokens().unquotedEnd(pos) - pos;
     }
 
     public @NotNull String peekRemaining() {
         if (hasFinished())
             return "";
-        return source.substring(pos);
+        return slice(pos, source.length());
     }
 
     @Override
     public @NotNull @Unmodifiable StringStream toImmutableCopy() {
-        return new BaseStringStream(source, pos);
+        return new BaseStringStream(source, pos, tokens());
     }
 
     @Override
     public @NotNull @Contract(value = "-> new", pure = true) MutableStringStream toMutableCopy() {
-        return new MutableStringStreamImpl(source, pos);
+        return new MutableStringStreamImpl(source, pos, tokens());
     }
 
     /**
@@ -222,6 +275,6 @@ class BaseStringStream implements StringStream {
 
     @Override
     public boolean isEmpty() {
-        return source.isEmpty();
+        return source.length() == 0;
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.stream;
+
+import org.jetbrains.annotations.NotNull;
+import revxrsal.commands.util.Strings.StringRange;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link CharSequence} that presents another sequence with some of its
+ * ranges removed, without copying the characters that remain.
+ * <p>
+ * The remaining characters are kept as segments of the original sequence.
+ * Slices that fall within a single segment are taken from the original
+ * directly, and the full string is only built (once) when requested.
+ */
+final class MaskedSequence implements CharSequence {
+
+    private final CharSequence source;
+
+    /**
+     * The index at which each segment starts in the original sequence
+     */
+    private final int[] sourceStarts;
+
+    /**
+     * The index at which each segment starts in this sequence
+     */
+    private final int[] offsets;
+    private final int length;
+    private String joined;
+
+    /**
+     * Creates a new sequence that skips the given ranges.
+     *
+     * @param source The original sequence
+     * @param ranges The ranges to skip. These must not overlap, and must
+     *               be sorted by their start.
+     */
+    MaskedSequence(@NotNull CharSequence source, @NotNull List<StringRange> ranges) {
+        this.source = source;
+        int[] sourceStarts = new int[ranges.size() + 1];
+        int[] offsets = new int[ranges.size() + 1];
+        int segments = 0;
+        int current = 0;
+        int length = 0;
+        for (StringRange range : ranges) {
+            if (current < range.start()) {
+                sourceStarts[segments] = current;
+                offsets[segments++] = length;
+                length += range.start() - current;
+            }
+            current = Math.max(current, range.end());
+        }
+        if (current < source.length()) {
+            sourceStarts[segments] = current;
+            offsets[segments++] = length;
+            length += source.length() - current;
+        }
+        this.sourceStarts = Arrays.copyOf(sourceStarts, segments);
+        this.offsets = Arrays.copyOf(offsets, segments);
+        this.length = length;
+    }
+
+    /**
+     * Returns the index of the segment that contains the given index
+     */
+    private int segmentAt(int index) {
+        int found = Arrays.binarySearch(offsets, index);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    @Override public int length() {
+        return length;
+    }
+
+    @Override public char charAt(int index) {
+        if (index < 0 || index >= length)
+            throw new StringIndexOutOfBoundsException(index);
+        int segment = segmentAt(index);
+        return source.charAt(sourceStarts[segment] + index - offsets[segment]);
+    }
+
+    @Override public @NotNull CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end)
+            throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+        if (start == end)
+            return "";
+        if (joined == null) {
+            int segment = segmentAt(start);
+            int segmentEnd = segment + 1 < offsets.length ? offsets[segment + 1] : length;
+            if (end <= segmentEnd) {
+                int shift = sourceStarts[segment] - offsets[segment];
+                return source.subSequence(start + shift, end + shift);
+            }
+        }
+        return toString().substring(start, end);
+    }
+
+    @Override public @NotNull String toString() {
+        if (joined == null) {
+            StringBuilder builder = new StringBuilder(length);
+            for (int i = 0; i < offsets.length; i++) {
+                int segmentLength = (i + 1 < offsets.length ? offsets[i + 1] : length) - offsets[i];
+                builder.append(source, sourceStarts[i], sourceStarts[i] + segmentLength);
+            }
+            joined = builder.toString();
+        }
+        return joined;
+    }
+}
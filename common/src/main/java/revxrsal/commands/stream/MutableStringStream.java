@@ -185,6 +185,34 @@ public interface MutableStringStream extends StringStream {
      */
     void setPosition(int position);
 
+    /**
+     * Marks the current position of the cursor, so that it can be restored
+     * later using {@link #reset(int)}.
+     * <p>
+     * This is a cheaper alternative to {@link #toMutableCopy()} for code that
+     * needs to try reading the same input more than once, as it does not
+     * allocate a new stream.
+     * <p>
+     * A mark only records the position of the cursor. Code that shares a
+     * stream through marks must not change its source (for example, to append
+     * a default value), as that change would be visible after {@link #reset(int)}.
+     *
+     * @return The mark
+     */
+    @Contract(pure = true)
+    default int mark() {
+        return position();
+    }
+
+    /**
+     * Moves the cursor back to the given mark
+     *
+     * @param mark The mark, as returned by {@link #mark()}
+     */
+    default void reset(int mark) {
+        setPosition(mark);
+    }
+
     /**
      * Returns an {@link StringStream} copy of this string stream
      *
@@ -27,14 +27,33 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import revxrsal.commands.exception.InputParseException;
-import revxrsal.commands.exception.InvalidBooleanException;
-import revxrsal.commands.exception.InvalidDecimalException;
-import revxrsal.commands.exception.InvalidIntegerException;
+import revxrsal.commands.util.Strings.StringRange;
 
+import java.util.List;
 import java.util.Locale;
 
+import static revxrsal.commands.exception.StacklessExceptions.inputParse;
+import static revxrsal.commands.exception.StacklessExceptions.invalidBoolean;
+import static revxrsal.commands.exception.StacklessExceptions.invalidDecimal;
+import static revxrsal.commands.exception.StacklessExceptions.invalidInteger;
+
 public final class MutableStringStreamImpl extends BaseStringStream implements MutableStringStream {
 
+    /*
+     * Plain decimals of up to 15 digits are exactly representable as doubles,
+     * and so are the powers of ten below, so dividing one by the other gives a
+     * correctly rounded result without going through Double.parseDouble().
+     * The same holds for floats with mantissas below 2^24 and up to 10^10.
+     */
+    private static final int MAXIMUM_FAST_DIGITS = 15;
+    private static final long FLOAT_FAST_PATH_LIMIT = 1 << 24;
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
     private StringStreamView immutableView = null;
 
     /**
@@ -52,15 +71,26 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
      * @param source   Source to read
      * @param position Cursor position
      */
-    MutableStringStreamImpl(String source, int position) {
+    MutableStringStreamImpl(CharSequence source, int position) {
         super(source, position);
     }
 
+    /**
+     * Creates a new {@link MutableStringStream} that shares the given word boundaries.
+     *
+     * @param source   Source to read
+     * @param position Cursor position
+     * @param tokens   The word boundaries of the source
+     */
+    MutableStringStreamImpl(CharSequence source, int position, TokenTable tokens) {
+        super(source, position, tokens);
+    }
+
     @Override
     public String read(int characters) {
         if (!canRead(characters))
             return consumeRemaining();
-        return source.substring(pos, pos += characters);
+        return slice(pos, pos += characters);
     }
 
     public void moveForward() {
@@ -87,7 +117,7 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
     public @NotNull String consumeRemaining() {
         if (hasFinished())
             return "";
-        String v = source.substring(pos);
+        String v = slice(pos, source.length());
         skipToEnd();
         return v;
     }
@@ -96,9 +126,18 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
         pos = source.length();
     }
 
+    /**
+     * Returns a new stream over the source of this stream, with the given
+     * ranges removed. The remaining characters are not copied.
+     *
+     * @param ranges The ranges to remove, sorted by their start
+     * @return The new stream, with its position at zero
+     */
     @ApiStatus.Internal
-    public void extend(@NotNull String str) {
-        source += str;
+    public @NotNull MutableStringStream withoutRanges(@NotNull List<StringRange> ranges) {
+        if (ranges.isEmpty())
+            return new MutableStringStreamImpl(source, 0, tokens);
+        return new MutableStringStreamImpl(new MaskedSequence(source, ranges), 0);
     }
 
     public @NotNull String readUntil(char delimiter) {
@@ -112,7 +151,7 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
                     escaped = false;
                 } else {
                     moveBackward(1);
-                    throw new InputParseException(InputParseException.Cause.INVALID_ESCAPE_CHARACTER);
+                    throw inputParse(InputParseException.Cause.INVALID_ESCAPE_CHARACTER);
                 }
             } else if (c == ESCAPE) {
                 escaped = true;
@@ -122,7 +161,7 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
                 result.append(c);
             }
         }
-        throw new InputParseException(InputParseException.Cause.UNCLOSED_QUOTE);
+        throw inputParse(InputParseException.Cause.UNCLOSED_QUOTE);
     }
 
     public @NotNull String readWhile(CharPredicate predicate) {
@@ -130,65 +169,152 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
         while (hasRemaining() && predicate.test(peek())) {
             moveForward();
         }
-        return source.substring(start, pos);
+        return slice(start, pos);
     }
 
     public float readFloat() {
-        String value = readUnquotedString();
+        int start = pos;
+        int end = endOfWord();
+        pos = end;
+        long decimal = scanDecimal(start, end);
+        if (decimal != -1) {
+            long mantissa = decimal >>> 5;
+            int scale = (int) (decimal >>> 1) & 0xF;
+            if (mantissa < FLOAT_FAST_PATH_LIMIT && scale < FLOAT_POWERS_OF_TEN.length) {
+                float v = (float) mantissa / FLOAT_POWERS_OF_TEN[scale];
+                return (decimal & 1) != 0 ? -v : v;
+            }
+        }
+        String value = slice(start, end);
         try {
             float v = Float.parseFloat(value);
             if (Float.isFinite(v)) return v;
-            throw new InvalidDecimalException(value);
+            throw invalidDecimal(value);
         } catch (NumberFormatException e) {
-            throw new InvalidDecimalException(value);
+            throw invalidDecimal(value);
         }
     }
 
     public double readDouble() {
-        String value = readUnquotedString();
+        int start = pos;
+        int end = endOfWord();
+        pos = end;
+        long decimal = scanDecimal(start, end);
+        if (decimal != -1) {
+            double v = (double) (decimal >>> 5) / DOUBLE_POWERS_OF_TEN[(int) (decimal >>> 1) & 0xF];
+            return (decimal & 1) != 0 ? -v : v;
+        }
+        String value = slice(start, end);
         try {
             double v = Double.parseDouble(value);
             if (Double.isFinite(v)) return v;
-            throw new InvalidDecimalException(value);
+            throw invalidDecimal(value);
         } catch (NumberFormatException e) {
-            throw new InvalidDecimalException(value);
+            throw invalidDecimal(value);
         }
     }
 
     public int readInt() {
-        String value = readUnquotedString();
-        try {
-            return Integer.parseInt(value);
-        } catch (NumberFormatException e) {
-            throw new InvalidIntegerException(value);
-        }
+        return (int) readInteger(Integer.MIN_VALUE, Integer.MAX_VALUE);
     }
 
     public long readLong() {
-        String value = readUnquotedString();
-        try {
-            return Long.parseLong(value);
-        } catch (NumberFormatException e) {
-            throw new InvalidIntegerException(value);
-        }
+        return readInteger(Long.MIN_VALUE, Long.MAX_VALUE);
     }
 
     public short readShort() {
-        String value = readUnquotedString();
-        try {
-            return Short.parseShort(value);
-        } catch (NumberFormatException e) {
-            throw new InvalidIntegerException(value);
-        }
+        return (short) readInteger(Short.MIN_VALUE, Short.MAX_VALUE);
     }
 
     public byte readByte() {
-        String value = readUnquotedString();
-        try {
-            return Byte.parseByte(value);
-        } catch (NumberFormatException e) {
-            throw new InvalidIntegerException(value);
+        return (byte) readInteger(Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    /**
+     * Returns the index at which the word at the cursor ends, without
+     * moving the cursor. This matches {@link #readUnquotedString()}.
+     */
+    private int endOfWord() {
+        return tokens().unquotedEnd(pos);
+    }
+
+    /**
+     * Reads the next word as a base-10 integer in the given range, directly
+     * from the source. This accepts exactly what {@link Long#parseLong(String)}
+     * accepts, and the word is only copied when it is not a valid integer.
+     *
+     * @param min The smallest accepted value
+     * @param max The largest accepted value
+     * @return The parsed integer
+     */
+    private long readInteger(long min, long max) {
+        int start = pos;
+        int end = endOfWord();
+        pos = end;
+        int i = start;
+        boolean negative = false;
+        if (i < end) {
+            char sign = source.charAt(i);
+            if (sign == '-' || sign == '+') {
+                negative = sign == '-';
+                i++;
+            }
+        }
+        if (i == end)
+            throw invalidInteger(slice(start, end));
+        // accumulate negatively, as the negative range is larger by one
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(source.charAt(i), 10);
+            if (digit < 0 || result < multiplyLimit)
+                throw invalidInteger(slice(start, end));
+            result *= 10;
+            if (result < limit + digit)
+                throw invalidInteger(slice(start, end));
+            result -= digit;
         }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Scans the given range for a plain decimal, such as {@code -12.5}, that
+     * can be converted without going through {@link Double#parseDouble(String)}.
+     * Anything else (exponents, suffixes, too many digits) returns -1 and is
+     * left to the slow path.
+     *
+     * @return The mantissa, shifted left by 5 bits, followed by 4 bits for the
+     * number of fractional digits and 1 bit for the sign, or -1.
+     */
+    private long scanDecimal(int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end) {
+            char sign = source.charAt(i);
+            if (sign == '-' || sign == '+') {
+                negative = sign == '-';
+                i++;
+            }
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            char c = source.charAt(i);
+            if (c == '.' && scale == -1) {
+                scale = 0;
+                continue;
+            }
+            if (c < '0' || c > '9' || ++digits > MAXIMUM_FAST_DIGITS)
+                return -1;
+            mantissa = mantissa * 10 + (c - '0');
+            if (scale != -1)
+                scale++;
+        }
+        if (digits == 0)
+            return -1;
+        return mantissa << 5 | (long) Math.max(scale, 0) << 1 | (negative ? 1 : 0);
     }
 
     public boolean readBoolean() {
@@ -202,7 +328,7 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
             case "nope":
                 return false;
             default:
-                throw new InvalidBooleanException(value);
+                throw invalidBoolean(value);
         }
     }
 
@@ -272,6 +398,10 @@ public final class MutableStringStreamImpl extends BaseStringStream implements M
             return MutableStringStreamImpl.this.peekUnquotedString();
         }
 
+        @Override public int peekUnquotedLength() {
+            return MutableStringStreamImpl.this.peekUnquotedLength();
+        }
+
         @Override public @NotNull String peekString() {
             return MutableStringStreamImpl.this.peekString();
         }
@@ -74,6 +74,22 @@ public interface StringStream {
         return new MutableStringStreamImpl(source);
     }
 
+    /**
+     * Returns a mutable {@link MutableStringStream} over the given label followed
+     * by the given arguments, separated by spaces, starting at the beginning.
+     * <p>
+     * This is equivalent to joining the label and the arguments with spaces,
+     * except that the joined string is only built when {@link #source()} is
+     * called. Words that line up with an argument are read without copying.
+     *
+     * @param label     The command label
+     * @param arguments The command arguments
+     * @return The newly created {@link MutableStringStream}
+     */
+    static @NotNull MutableStringStream createMutable(@NotNull String label, @NotNull String[] arguments) {
+        return new MutableStringStreamImpl(new ArgumentsSequence(label, arguments), 0);
+    }
+
     /**
      * Returns the original entire string source.
      *
@@ -160,6 +176,18 @@ public interface StringStream {
     @NotNull
     String peekUnquotedString();
 
+    /**
+     * Returns the length of the string that {@link #peekUnquotedString()}
+     * would return, without copying it.
+     * <p>
+     * This will not move the cursor forward.
+     *
+     * @return The length of the next unquoted string
+     */
+    default int peekUnquotedLength() {
+        return peekUnquotedString().length();
+    }
+
     /**
      * Peeks the next string. If the string was quoted, it will
      * peek the entire string inside the quotes. Otherwise, it will
@@ -0,0 +1,140 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.stream;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * The word boundaries of a source, computed once and shared by every
+ * stream that is copied from the same source.
+ * <p>
+ * A word is a maximal run of non-whitespace characters, which is exactly
+ * what {@link StringStream#readUnquotedString()} reads. Words that open a
+ * quote also remember where the quote closes, as long as the quoted string
+ * contains no escapes, so that {@link StringStream#readString()} can slice
+ * it directly.
+ */
+final class TokenTable {
+
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * The index at which each word starts, in ascending order
+     */
+    private final int[] starts;
+
+    /**
+     * The index at which each word ends (exclusive)
+     */
+    private final int[] ends;
+
+    /**
+     * For words that start with a double quote, the index after the closing
+     * quote. This is -1 for other words, and for quoted strings that are
+     * unclosed or contain escapes.
+     */
+    private final int[] quoteEnds;
+
+    private TokenTable(int[] starts, int[] ends, int[] quoteEnds) {
+        this.starts = starts;
+        this.ends = ends;
+        this.quoteEnds = quoteEnds;
+    }
+
+    static @NotNull TokenTable of(@NotNull CharSequence source) {
+        int length = source.length();
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (!Character.isWhitespace(source.charAt(i)) && (i == 0 || Character.isWhitespace(source.charAt(i - 1))))
+                count++;
+        }
+        if (count == 0)
+            return new TokenTable(EMPTY, EMPTY, EMPTY);
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        int[] quoteEnds = new int[count];
+        int word = 0;
+        int i = 0;
+        while (word < count) {
+            while (Character.isWhitespace(source.charAt(i)))
+                i++;
+            starts[word] = i;
+            quoteEnds[word] = source.charAt(i) == BaseStringStream.DOUBLE_QUOTE ? closingQuote(source, i + 1) : -1;
+            while (i < length && !Character.isWhitespace(source.charAt(i)))
+                i++;
+            ends[word++] = i;
+        }
+        return new TokenTable(starts, ends, quoteEnds);
+    }
+
+    private static int closingQuote(@NotNull CharSequence source, int from) {
+        for (int i = from; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == BaseStringStream.DOUBLE_QUOTE)
+                return i + 1;
+            if (c == BaseStringStream.ESCAPE)
+                return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the word that contains the given position,
+     * or -1 if the position does not fall within a word.
+     */
+    private int wordAt(int position) {
+        int found = Arrays.binarySearch(starts, position);
+        if (found >= 0)
+            return found;
+        int word = -found - 2;
+        return word >= 0 && position < ends[word] ? word : -1;
+    }
+
+    /**
+     * Returns the index at which the unquoted string that starts
+     * at the given position ends
+     *
+     * @param position The position to read from
+     * @return The end of the unquoted string, exclusive
+     */
+    int unquotedEnd(int position) {
+        int word = wordAt(position);
+        return word == -1 ? position : ends[word];
+    }
+
+    /**
+     * Returns the index after the closing quote of the quoted string that
+     * opens at the given position, or -1 if there is no such string or it
+     * contains escapes.
+     *
+     * @param position The position of the opening quote
+     * @return The end of the quoted string, exclusive, or -1
+     */
+    int quotedEnd(int position) {
+        int found = Arrays.binarySearch(starts, position);
+        return found >= 0 ? quoteEnds[found] : -1;
+    }
+}
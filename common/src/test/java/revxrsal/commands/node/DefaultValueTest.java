@@ -0,0 +1,65 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.node;
+
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.TestActor;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.annotation.Default;
+import revxrsal.commands.annotation.Optional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DefaultValueTest {
+
+    @Test
+    void defaultValuesDoNotLeakIntoOtherCommands() {
+        Lamp<TestActor> lamp = Lamp.<TestActor>builder().build();
+        Commands commands = new Commands();
+        lamp.register(commands);
+
+        lamp.dispatch(new TestActor(lamp), "t");
+        assertEquals(Collections.singletonList("a 5"), commands.executed);
+    }
+
+    public static final class Commands {
+
+        private final List<String> executed = new ArrayList<>();
+
+        @Command("t")
+        public void a(TestActor actor, @Optional @Default("5") int x) {
+            executed.add("a " + x);
+        }
+
+        @Command("t")
+        public void b(TestActor actor, String word) {
+            executed.add("b " + word);
+        }
+    }
+}
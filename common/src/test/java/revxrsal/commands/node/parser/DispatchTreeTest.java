@@ -0,0 +1,129 @@
+/*
+ * This file is part of lamp, licensed under the MIT License.
+ *
+ *  Copyright (c) Revxrsal <reflxction.github@gmail.com>
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package revxrsal.commands.node.parser;
+
+import org.junit.jupiter.api.Test;
+import revxrsal.commands.Lamp;
+import revxrsal.commands.TestActor;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.command.ExecutableCommand;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DispatchTreeTest {
+
+    @Test
+    void builtInParametersAreMergedAcrossOverloads() {
+        Lamp<TestActor> lamp = Lamp.<TestActor>builder().build();
+        BuiltInCommands commands = new BuiltInCommands();
+        lamp.register(commands);
+
+        // <player> is shared by all three commands, <amount> by two of them
+        assertEquals(2, treeOf(lamp, "give").sharedParameterCount());
+
+        TestActor actor = new TestActor(lamp);
+        lamp.dispatch(actor, "give Notch 64");
+        lamp.dispatch(actor, "give Notch diamond 3");
+        assertEquals(Arrays.asList("amount Notch 64", "item Notch diamond 3"), commands.executed);
+    }
+
+    @Test
+    void customParametersAreParsedForEachCommand() {
+        Set<String> parsedFor = new HashSet<>();
+        Lamp<TestActor> lamp = Lamp.<TestActor>builder()
+                .parameterTypes(types -> types.addParameterType(Target.class, (input, context) -> {
+                    parsedFor.add(context.command().path());
+                    return new Target(input.readString());
+                }))
+                .build();
+        CustomCommands commands = new CustomCommands();
+        lamp.register(commands);
+
+        assertEquals(0, treeOf(lamp, "give").sharedParameterCount());
+
+        lamp.dispatch(new TestActor(lamp), "give Notch 64");
+        assertEquals(2, parsedFor.size());
+        assertEquals(Collections.singletonList("amount Notch 64"), commands.executed);
+    }
+
+    private static DispatchTree<TestActor> treeOf(Lamp<TestActor> lamp, String root) {
+        List<ExecutableCommand<TestActor>> commands = new ArrayList<>();
+        for (ExecutableCommand<TestActor> command : lamp.registry().commands()) {
+            if (command.firstNode().name().equals(root))
+                commands.add(command);
+        }
+        return new DispatchTree<>(commands, 0);
+    }
+
+    public static final class BuiltInCommands {
+
+        private final List<String> executed = new ArrayList<>();
+
+        @Command("give")
+        public void amount(TestActor actor, String player, int amount) {
+            executed.add("amount " + player + " " + amount);
+        }
+
+        @Command("give")
+        public void item(TestActor actor, String player, String item, int count) {
+            executed.add("item " + player + " " + item + " " + count);
+        }
+
+        @Command("give")
+        public void times(TestActor actor, String player, int amount, int times) {
+            executed.add("times " + player + " " + amount + " " + times);
+        }
+    }
+
+    public static final class Target {
+
+        private final String name;
+
+        Target(String name) {
+            this.name = name;
+        }
+    }
+
+    public static final class CustomCommands {
+
+        private final List<String> executed = new ArrayList<>();
+
+        @Command("give")
+        public void amount(TestActor actor, Target target, int amount) {
+            executed.add("amount " + target.name + " " + amount);
+        }
+
+        @Command("give")
+        public void item(TestActor actor, Target target, String item) {
+            executed.add("item " + target.name + " " + item);
+        }
+    }
+}
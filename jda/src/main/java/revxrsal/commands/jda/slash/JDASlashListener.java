@@ -31,7 +31,14 @@ import net.dv8tion.jda.api.interactions.commands.Command;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import revxrsal.commands.Lamp;
+import revxrsal.commands.autocomplete.AsyncSuggestionProvider;
+import revxrsal.commands.autocomplete.CompletionDeadlines;
+import revxrsal.commands.autocomplete.StreamingSuggestionProvider;
+import revxrsal.commands.autocomplete.SuggestionSink;
+import revxrsal.commands.autocomplete.SuggestionProvider;
 import revxrsal.commands.command.ExecutableCommand;
 import revxrsal.commands.jda.JDAUtils;
 import revxrsal.commands.jda.actor.SlashActorFactory;
@@ -43,9 +50,11 @@ import revxrsal.commands.stream.MutableStringStream;
 import revxrsal.commands.stream.StringStream;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static revxrsal.commands.exception.context.ErrorContext.parsingParameter;
 import static revxrsal.commands.jda.JDAUtils.findCommand;
@@ -53,6 +62,13 @@ import static revxrsal.commands.jda.JDAUtils.toChoices;
 
 public final class JDASlashListener<A extends SlashCommandActor> implements EventListener {
 
+    /**
+     * The maximum number of choices Discord accepts for a single autocomplete
+     */
+    private static final int MAX_CHOICES = 25;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JDASlashListener.class);
+
     private final Lamp<A> lamp;
     private final SlashActorFactory<A> actorFactory;
 
@@ -92,8 +108,49 @@ public final class JDASlashListener<A extends SlashCommandActor> implements Even
                 true
         );
         ParameterNode<A, ?> node = command.parameter(event.getFocusedOption().getName());
-        Collection<String> suggestions = node.suggestions().getSuggestions(context);
+        SuggestionProvider<A> provider = node.suggestions();
+        String prefix = event.getFocusedOption().getValue();
+        int limit = Math.min(MAX_CHOICES, lamp.dispatcherSettings().maximumSuggestions());
+        // keep slow providers off the gateway thread
+        CompletableFuture<Collection<String>> suggestions;
+        try {
+            if (provider instanceof AsyncSuggestionProvider) {
+                //noinspection unchecked
+                suggestions = ((AsyncSuggestionProvider<A>) provider).getSuggestionsAsync(context);
+            } else if (provider instanceof StreamingSuggestionProvider) {
+                suggestions = lamp.completionExecutor().supply(() -> {
+                    SuggestionSink sink = SuggestionSink.create(prefix, limit);
+                    //noinspection unchecked
+                    ((StreamingSuggestionProvider<A>) provider).suggest(context, sink);
+                    return sink.suggestions();
+                });
+            } else {
+                suggestions = lamp.completionExecutor().supply(() -> provider.getSuggestions(context));
+            }
+        } catch (Throwable t) {
+            suggestions = new CompletableFuture<>();
+            suggestions.completeExceptionally(t);
+        }
+        // the deadline replaces failures with the fallback, so log them first
+        suggestions.whenComplete((values, error) -> {
+            if (error != null)
+                LOGGER.error("Failed to compute the suggestions of /{}", fullPath, error);
+        });
+        CompletionDeadlines.within(suggestions, lamp.dispatcherSettings().completionTimeout(), Collections.emptyList())
+                .thenAccept(values -> {
+                    SuggestionSink sink = SuggestionSink.create(prefix, limit);
+                    sink.acceptAll(values);
+                    replyChoices(event, sink.suggestions());
+                })
+                .exceptionally(error -> {
+                    // Discord expects a reply to every autocomplete interaction
+                    LOGGER.error("Failed to reply to the autocompletion of /{}", fullPath, error);
+                    event.replyChoices().queue();
+                    return null;
+                });
+    }
 
+    private void replyChoices(@NotNull CommandAutoCompleteInteractionEvent event, @NotNull Collection<String> suggestions) {
         List<Command.Choice> choices = toChoices(suggestions, event.getFocusedOption().getType());
         event.replyChoices(choices).queue();
     }
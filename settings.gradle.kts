@@ -22,6 +22,7 @@ include("jda")
 include("fabric")
 include("minestom")
 include("internal-paper-stubs")
+include("benchmarks")
 
 /*
  * -------- Example projects --------
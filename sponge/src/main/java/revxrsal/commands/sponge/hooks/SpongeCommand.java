@@ -40,13 +40,14 @@ import revxrsal.commands.stream.StringStream;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.StringJoiner;
 
 import static revxrsal.commands.util.Collections.map;
 import static revxrsal.commands.util.Strings.stripNamespace;
 
 public class SpongeCommand<A extends SpongeCommandActor> implements Command.Raw {
 
+    private static final String[] NO_ARGUMENTS = new String[0];
+
     private final String name;
     private final Lamp<A> lamp;
     private final @NotNull ActorFactory<A> actorFactory;
@@ -60,11 +61,8 @@ public class SpongeCommand<A extends SpongeCommandActor> implements Command.Raw
     }
 
     private static @NotNull MutableStringStream createInput(String commandName, ArgumentReader args) {
-        StringJoiner userInput = new StringJoiner(" ");
-        userInput.add(stripNamespace(commandName));
-        if (args.totalLength() != 0)
-            userInput.add(args.input());
-        return StringStream.createMutable(userInput.toString());
+        String[] arguments = args.totalLength() == 0 ? NO_ARGUMENTS : new String[]{args.input()};
+        return StringStream.createMutable(stripNamespace(commandName), arguments);
     }
 
     @Override